@@ -0,0 +1,105 @@
+package tech.intellispaces.ixora.structures.collection;
+
+import intellispaces.ixora.structures.collection.CollectionHandle;
+import intellispaces.ixora.structures.collection.List;
+import intellispaces.ixora.structures.collection.UnmovableListHandle;
+import tech.intellispaces.core.annotation.Mapper;
+import tech.intellispaces.core.annotation.UnmovableObjectHandle;
+import tech.intellispaces.javastatements.type.Type;
+import tech.intellispaces.javastatements.type.Types;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * List of boolean values stored in the bit set.
+ * <p>
+ * The bit set passed to the constructor is not copied, so it should not be changed after the list is created.
+ */
+@UnmovableObjectHandle("BooleanBitSetList")
+public abstract class AbstractBooleanBitSetList implements UnmovableListHandle<Boolean> {
+  private final BitSet bits;
+  private final int size;
+  private final Type<Boolean> elementDomain = Types.of(Boolean.class);
+
+  public AbstractBooleanBitSetList(boolean[] values) {
+    this.bits = new BitSet(values.length);
+    this.size = values.length;
+    for (int i = 0; i < values.length; i++) {
+      bits.set(i, values[i]);
+    }
+  }
+
+  public AbstractBooleanBitSetList(BitSet bits, int size) {
+    this.bits = bits;
+    this.size = size;
+  }
+
+  @Mapper
+  @Override
+  public CollectionHandle<Boolean> asCollection() {
+    return new JavaCollection<>(nativeList(), elementDomain);
+  }
+
+  @Override
+  public Type<List<Boolean>> domain() {
+    return Types.of(List.class, elementDomain);
+  }
+
+  @Mapper
+  @Override
+  public Type<Boolean> elementDomain() {
+    return elementDomain;
+  }
+
+  @Mapper
+  @Override
+  public Boolean element(int index) {
+    return booleanElement(index);
+  }
+
+  public boolean booleanElement(int index) {
+    Objects.checkIndex(index, size);
+    return bits.get(index);
+  }
+
+  @Mapper
+  @Override
+  public int size() {
+    return size;
+  }
+
+  public BitSet toBitSet() {
+    return (BitSet) bits.clone();
+  }
+
+  @Override
+  public java.util.List<Boolean> nativeList() {
+    return new BooleanListView(this);
+  }
+
+  @Override
+  public java.util.Collection<Boolean> nativeCollection() {
+    return nativeList();
+  }
+
+  private static final class BooleanListView extends AbstractList<Boolean> implements RandomAccess {
+    private final AbstractBooleanBitSetList list;
+
+    BooleanListView(AbstractBooleanBitSetList list) {
+      this.list = list;
+    }
+
+    @Override
+    public Boolean get(int index) {
+      return list.booleanElement(index);
+    }
+
+    @Override
+    public int size() {
+      return list.size;
+    }
+  }
+}
@@ -8,19 +8,24 @@ import tech.intellispaces.core.annotation.UnmovableObjectHandle;
 import tech.intellispaces.javastatements.type.Type;
 import tech.intellispaces.javastatements.type.Types;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Objects;
 
 @UnmovableObjectHandle("JavaList")
 public abstract class AbstractJavaList<E> implements UnmovableListHandle<E> {
+  private final java.util.List<E> source;
   private final java.util.List<E> list;
   private final Type<E> elementDomain;
 
   public AbstractJavaList(java.util.List<E> list, Class<E> elementDomain) {
+    this.source = list;
     this.list = Collections.unmodifiableList(list);
     this.elementDomain = Types.of(elementDomain);
   }
 
   public AbstractJavaList(java.util.List<E> list, Type<E> elementDomain) {
+    this.source = list;
     this.list = Collections.unmodifiableList(list);
     this.elementDomain = elementDomain;
   }
@@ -54,6 +59,40 @@ public abstract class AbstractJavaList<E> implements UnmovableListHandle<E> {
     return list.size();
   }
 
+  /**
+   * Returns the list handle of the range of this list.
+   * <p>
+   * Elements are not copied, the slice shares the storage of this list and keeps the element domain.
+   * Slices of slices refer to the original storage directly.
+   *
+   * @param fromIndex low endpoint (inclusive) of the slice.
+   * @param toIndex high endpoint (exclusive) of the slice.
+   * @return the slice.
+   */
+  public JavaList<E> slice(int fromIndex, int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, list.size());
+    return new JavaList<>(JavaListSlice.of(source, fromIndex, toIndex), elementDomain);
+  }
+
+  /**
+   * Splits this list to consecutive slices of the chunk size. The last slice can be smaller.
+   *
+   * @param chunkSize the chunk size.
+   * @return the slices.
+   * @see #slice(int, int)
+   */
+  public java.util.List<JavaList<E>> partition(int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive, but actual is " + chunkSize);
+    }
+    int size = list.size();
+    var chunks = new ArrayList<JavaList<E>>(size / chunkSize + 1);
+    for (int fromIndex = 0; fromIndex < size; fromIndex += chunkSize) {
+      chunks.add(slice(fromIndex, Math.min(size, fromIndex + chunkSize)));
+    }
+    return Collections.unmodifiableList(chunks);
+  }
+
   @Override
   public java.util.List<E> nativeList() {
     return list;
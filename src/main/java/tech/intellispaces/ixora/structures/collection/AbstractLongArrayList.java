@@ -0,0 +1,93 @@
+package tech.intellispaces.ixora.structures.collection;
+
+import intellispaces.ixora.structures.collection.CollectionHandle;
+import intellispaces.ixora.structures.collection.List;
+import intellispaces.ixora.structures.collection.UnmovableListHandle;
+import tech.intellispaces.core.annotation.Mapper;
+import tech.intellispaces.core.annotation.UnmovableObjectHandle;
+import tech.intellispaces.javastatements.type.Type;
+import tech.intellispaces.javastatements.type.Types;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * List of long values stored unboxed in the array.
+ * <p>
+ * The array is not copied, so it should not be changed after the list is created.
+ */
+@UnmovableObjectHandle("LongArrayList")
+public abstract class AbstractLongArrayList implements UnmovableListHandle<Long> {
+  private final long[] values;
+  private final Type<Long> elementDomain = Types.of(Long.class);
+
+  public AbstractLongArrayList(long[] values) {
+    this.values = values;
+  }
+
+  @Mapper
+  @Override
+  public CollectionHandle<Long> asCollection() {
+    return new JavaCollection<>(nativeList(), elementDomain);
+  }
+
+  @Override
+  public Type<List<Long>> domain() {
+    return Types.of(List.class, elementDomain);
+  }
+
+  @Mapper
+  @Override
+  public Type<Long> elementDomain() {
+    return elementDomain;
+  }
+
+  @Mapper
+  @Override
+  public Long element(int index) {
+    return values[index];
+  }
+
+  public long longElement(int index) {
+    return values[index];
+  }
+
+  @Mapper
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  public long[] toArray() {
+    return Arrays.copyOf(values, values.length);
+  }
+
+  @Override
+  public java.util.List<Long> nativeList() {
+    return new LongListView(values);
+  }
+
+  @Override
+  public java.util.Collection<Long> nativeCollection() {
+    return nativeList();
+  }
+
+  private static final class LongListView extends AbstractList<Long> implements RandomAccess {
+    private final long[] values;
+
+    LongListView(long[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public Long get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+}
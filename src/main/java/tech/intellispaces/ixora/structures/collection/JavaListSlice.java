@@ -0,0 +1,42 @@
+package tech.intellispaces.ixora.structures.collection;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * View of the range of the list.
+ * <p>
+ * Slice always refers to the root list, not to the parent slice, so element access costs the same
+ * at any slicing depth.
+ */
+class JavaListSlice<E> extends AbstractList<E> implements RandomAccess {
+  private final List<E> root;
+  private final int offset;
+  private final int size;
+
+  JavaListSlice(List<E> root, int offset, int size) {
+    this.root = root;
+    this.offset = offset;
+    this.size = size;
+  }
+
+  static <E> JavaListSlice<E> of(List<E> list, int fromIndex, int toIndex) {
+    if (list instanceof JavaListSlice<E> slice) {
+      return new JavaListSlice<>(slice.root, slice.offset + fromIndex, toIndex - fromIndex);
+    }
+    return new JavaListSlice<>(list, fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public E get(int index) {
+    Objects.checkIndex(index, size);
+    return root.get(offset + index);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
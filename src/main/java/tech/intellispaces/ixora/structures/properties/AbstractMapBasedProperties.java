@@ -11,15 +11,20 @@ import intellispaces.ixora.structures.properties.PropertiesHandle;
 import intellispaces.ixora.structures.properties.UnmovablePropertiesHandle;
 import tech.intellispaces.core.annotation.Mapper;
 import tech.intellispaces.core.annotation.UnmovableObjectHandle;
+import tech.intellispaces.ixora.structures.collection.BooleanBitSetList;
 import tech.intellispaces.ixora.structures.collection.JavaList;
+import tech.intellispaces.ixora.structures.collection.LongArrayList;
 
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 @UnmovableObjectHandle("MapBasedProperties")
 public abstract class AbstractMapBasedProperties implements UnmovablePropertiesHandle {
   private final java.util.Map<String, Object> map;
+  private volatile PropertiesPathIndex pathIndex;
 
   public AbstractMapBasedProperties(java.util.Map<String, Object> map) {
     this.map = (map != null ? map : Map.of());
@@ -31,20 +36,34 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
 
   @Mapper
   @Override
-  @SuppressWarnings("unchecked")
   public Object value(String path) throws InvalidPropertyException {
     if (path.isEmpty()) {
       return this;
     }
-    Object result = traverse(path);
+    return convertValue(path, traverse(path));
+  }
+
+  /**
+   * Converts raw value of the property to the value returned by {@link #value(String)}.
+   */
+  @SuppressWarnings("unchecked")
+  static Object convertValue(String path, Object result) {
     if (result == null) {
       return null;
     } else if (result instanceof Integer) {
       return result;
+    } else if (result instanceof Long) {
+      return result;
     } else if (result instanceof Double) {
       return result;
     } else if (result instanceof String) {
       return result;
+    } else if (result instanceof Boolean) {
+      return result;
+    } else if (result instanceof long[] array) {
+      return longList(path, array);
+    } else if (result instanceof boolean[] array) {
+      return booleanList(path, array);
     } else if (result instanceof List<?> list) {
       return convertObjectToList(path, list);
     } else if (result instanceof Map<?, ?>) {
@@ -54,17 +73,67 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
     }
   }
 
-  private ListHandle<?> convertObjectToList(String path, List<?> list) {
+  /**
+   * Returns values of all properties which paths match the pattern.
+   * <p>
+   * The pattern is a dotted path, where segment '*' matches any single segment, and segment '**' matches
+   * any number of segments, including none. For example, 'services.*.port' or 'routes.**.timeout'.
+   * <p>
+   * Values are returned in the order of paths and are converted in the same way as {@link #value(String)} does.
+   * Queries use the index of paths which is built on the first query. Properties tree should not be changed after that.
+   * <p>
+   * Literal segments and segments '*' visit only direct children of matched properties, so such queries cost
+   * in proportion to the number of visited children, not to the size of the tree. Segment '**' visits the whole
+   * subtree, unless the pattern ends with the literal segment: then only paths ending with this segment are checked.
+   *
+   * @param pattern the path pattern.
+   * @return values by matched paths.
+   */
+  public java.util.Map<String, Object> query(String pattern) throws InvalidPropertyException {
+    PropertiesPathIndex index = pathIndex();
+    var result = new LinkedHashMap<String, Object>();
+    for (String path : index.query(pattern)) {
+      result.put(path, convertValue(path, index.value(path)));
+    }
+    return result;
+  }
+
+  /**
+   * Returns sorted paths of all properties nested to the path prefix.
+   *
+   * @param prefix the path prefix. Empty prefix means all paths.
+   * @return nested paths.
+   */
+  public java.util.NavigableSet<String> paths(String prefix) {
+    return pathIndex().paths(prefix);
+  }
+
+  private PropertiesPathIndex pathIndex() {
+    PropertiesPathIndex index = pathIndex;
+    if (index == null) {
+      index = new PropertiesPathIndex(map);
+      pathIndex = index;
+    }
+    return index;
+  }
+
+  private static ListHandle<?> convertObjectToList(String path, List<?> list) {
     if (list.isEmpty()) {
-      throw new UnsupportedOperationException("Not implemented");
+      return new JavaList<>(List.of(), Object.class);
     }
     Object firstElement = list.get(0);
-    if (firstElement instanceof Integer) {
-      return integerList(path, list);
+    if (list instanceof UnboxedLongList) {
+      return longList(path, list);
+    } else if (list instanceof UnboxedBooleanList) {
+      return booleanList(path, list);
+    } else if (firstElement instanceof Integer || firstElement instanceof Long) {
+      return containsLong(list) ? longList(path, list) : integerList(path, list);
     } else if (firstElement instanceof Double) {
       return doubleList(path, list);
     } else if (firstElement instanceof String) {
       return stringList(path, list);
+    } else if (firstElement instanceof Boolean) {
+      return booleanList(path, list);
     } else if (firstElement instanceof Map<?, ?>) {
       return propertiesList(path, list);
     } else {
@@ -72,6 +141,15 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
     }
   }
 
+  private static boolean containsLong(List<?> list) {
+    for (Object element : list) {
+      if (element instanceof Long) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Mapper
   @Override
   public int integerValue(String path) throws InvalidPropertyException {
@@ -85,7 +163,24 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
   public double doubleValue(String path) throws InvalidPropertyException {
     Object value = traverse(path);
     validateSingleValueType(path, value, Double.class);
-    return (double) value;
+    return ((Number) value).doubleValue();
+  }
+
+  /**
+   * Returns long value of the property.
+   * <p>
+   * Integer values are widened to long.
+   */
+  public long longValue(String path) throws InvalidPropertyException {
+    Object value = traverse(path);
+    validateSingleValueType(path, value, Long.class);
+    return ((Number) value).longValue();
+  }
+
+  public boolean booleanValue(String path) throws InvalidPropertyException {
+    Object value = traverse(path);
+    validateSingleValueType(path, value, Boolean.class);
+    return (boolean) value;
   }
 
   @Mapper
@@ -116,9 +211,14 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
   }
 
   @SuppressWarnings("unchecked")
-  private IntegerListHandle integerList(String path, Object value) {
+  private static IntegerListHandle integerList(String path, Object value) {
+    var event = new PropertiesListConversionEvent();
+    event.begin();
     validateListValueType(path, value, Integer.class);
-    return new IntegerListBasedOnList(new JavaList<>((List<Integer>) value, Integer.class));
+    var list = (List<Integer>) value;
+    var result = new IntegerListBasedOnList(new JavaList<>(list, Integer.class));
+    event.commit(path, Integer.class, list.size());
+    return result;
   }
 
   @Mapper
@@ -129,9 +229,78 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
   }
 
   @SuppressWarnings("unchecked")
-  private DoubleListHandle doubleList(String path, Object value) {
+  private static DoubleListHandle doubleList(String path, Object value) {
+    var event = new PropertiesListConversionEvent();
+    event.begin();
     validateListValueType(path, value, Double.class);
-    return new DoubleListBasedOnList(new JavaList<>((List<Double>) value, Double.class));
+    var list = (List<Double>) value;
+    var result = new DoubleListBasedOnList(new JavaList<>(list, Double.class));
+    event.commit(path, Double.class, list.size());
+    return result;
+  }
+
+  /**
+   * Returns list of long values of the property.
+   * <p>
+   * Values are stored unboxed. Integer elements are widened to long. Lists stored unboxed in the properties tree,
+   * like lists parsed from JSON text, are not copied. Boxed lists are copied on each call.
+   */
+  public LongArrayList longList(String path) throws InvalidPropertyException {
+    Object value = traverse(path);
+    return longList(path, value);
+  }
+
+  private static LongArrayList longList(String path, Object value) {
+    var event = new PropertiesListConversionEvent();
+    event.begin();
+    long[] values;
+    if (value instanceof long[] array) {
+      values = array;
+    } else if (value instanceof UnboxedLongList list) {
+      values = list.values;
+    } else {
+      validateListValueType(path, value, Long.class);
+      var list = (List<?>) value;
+      values = new long[list.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = ((Number) list.get(i)).longValue();
+      }
+    }
+    var result = new LongArrayList(values);
+    event.commit(path, Long.class, values.length);
+    return result;
+  }
+
+  /**
+   * Returns list of boolean values of the property.
+   * <p>
+   * Values are stored in the bit set. Lists stored unboxed in the properties tree, like lists parsed from JSON text,
+   * are not copied. Boxed lists are copied on each call.
+   */
+  public BooleanBitSetList booleanList(String path) throws InvalidPropertyException {
+    Object value = traverse(path);
+    return booleanList(path, value);
+  }
+
+  private static BooleanBitSetList booleanList(String path, Object value) {
+    var event = new PropertiesListConversionEvent();
+    event.begin();
+    BooleanBitSetList result;
+    if (value instanceof boolean[] array) {
+      result = new BooleanBitSetList(array);
+    } else if (value instanceof UnboxedBooleanList list) {
+      result = new BooleanBitSetList(list.bits, list.size);
+    } else {
+      validateListValueType(path, value, Boolean.class);
+      var list = (List<?>) value;
+      var bits = new BitSet(list.size());
+      for (int i = 0; i < list.size(); i++) {
+        bits.set(i, (Boolean) list.get(i));
+      }
+      result = new BooleanBitSetList(bits, list.size());
+    }
+    event.commit(path, Boolean.class, result.size());
+    return result;
   }
 
   @Mapper
@@ -142,9 +311,14 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
   }
 
   @SuppressWarnings("unchecked")
-  private ListHandle<String> stringList(String path, Object value) {
+  private static ListHandle<String> stringList(String path, Object value) {
+    var event = new PropertiesListConversionEvent();
+    event.begin();
     validateListValueType(path, value, String.class);
-    return new JavaList<>((List<String>) value, String.class);
+    var list = (List<String>) value;
+    var result = new JavaList<>(list, String.class);
+    event.commit(path, String.class, list.size());
+    return result;
   }
 
   @Mapper
@@ -155,14 +329,14 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
   }
 
   @SuppressWarnings("unchecked")
-  private ListHandle<PropertiesHandle> propertiesList(String path, Object value) {
+  private static ListHandle<PropertiesHandle> propertiesList(String path, Object value) {
+    var event = new PropertiesListConversionEvent();
+    event.begin();
     validateListValueType(path, value, Map.class);
     var values = (List<Map<String, Object>>) value;
-    List<PropertiesHandle> propertyList = values.stream()
-        .map(MapBasedProperties::new)
-        .map(p -> (PropertiesHandle) p)
-        .toList();
-    return new JavaList<>(propertyList, PropertiesHandle.class);
+    var result = new JavaList<PropertiesHandle>(new LazyPropertiesList(values), PropertiesHandle.class);
+    event.commit(path, Map.class, values.size());
+    return result;
   }
 
   @Mapper
@@ -171,47 +345,74 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
     return nativeMap().size();
   }
 
-  private void validateSingleValueType(String path, Object value, Class<?> expectedType) {
+  private static void validateSingleValueType(String path, Object value, Class<?> expectedType) {
     if (value == null) {
-      throw InvalidPropertyException.withMessage("Property does not exist. Path '{}'", path);
+      throw lookupFailure(path,
+          InvalidPropertyException.withMessage("Property does not exist. Path '{}'", path));
     }
     if (value instanceof Properties & expectedType != java.util.Map.class) {
-      throw InvalidPropertyException.withMessage("Expected property value of {} type, but actual is {}. Path '{}'",
-          expectedType.getCanonicalName(), Properties.class.getCanonicalName(), path);
+      throw lookupFailure(path,
+          InvalidPropertyException.withMessage("Expected property value of {} type, but actual is {}. Path '{}'",
+              expectedType.getCanonicalName(), Properties.class.getCanonicalName(), path));
 
     }
-    if (!expectedType.isAssignableFrom(value.getClass())) {
-      throw InvalidPropertyException.withMessage("Expected property value of {} type, but actual is {}. Path '{}'",
-          expectedType.getCanonicalName(), getActualType(value).getCanonicalName(), path);
+    if (!expectedType.isAssignableFrom(value.getClass()) && !isWidenedTo(value, expectedType)) {
+      throw lookupFailure(path,
+          InvalidPropertyException.withMessage("Expected property value of {} type, but actual is {}. Path '{}'",
+              expectedType.getCanonicalName(), getActualType(value).getCanonicalName(), path));
     }
   }
 
-  private void validateListValueType(String path, Object value, Class<?> expectedElementType) {
+  private static void validateListValueType(String path, Object value, Class<?> expectedElementType) {
     if (value == null) {
-      throw InvalidPropertyException.withMessage("Property does not exist. Path '{}'", path);
+      throw lookupFailure(path,
+          InvalidPropertyException.withMessage("Property does not exist. Path '{}'", path));
+    }
+
+    if (value instanceof long[] || value instanceof boolean[]) {
+      Class<?> actualElementType = (value instanceof long[] ? Long.class : Boolean.class);
+      throw lookupFailure(path,
+          InvalidPropertyException.withMessage("Expected property list of {} values, but actual is list contained {} values. Path '{}'",
+              expectedElementType.getCanonicalName(), actualElementType.getCanonicalName(), path));
     }
 
     if (!java.util.List.class.isAssignableFrom(value.getClass())) {
-      throw InvalidPropertyException.withMessage("Expected property list values of type {}, but actual is single value of type {}. Path '{}'",
-          expectedElementType.getCanonicalName(), getActualType(value).getCanonicalName(), path);
+      throw lookupFailure(path,
+          InvalidPropertyException.withMessage("Expected property list values of type {}, but actual is single value of type {}. Path '{}'",
+              expectedElementType.getCanonicalName(), getActualType(value).getCanonicalName(), path));
     }
 
     var list = (java.util.List<?>) value;
     for (Object element : list) {
-      if (!expectedElementType.isAssignableFrom(element.getClass())) {
-        throw InvalidPropertyException.withMessage("Expected property list of {} values, but actual is list contained {} values. Path '{}'",
-            expectedElementType.getCanonicalName(), getActualType(element).getCanonicalName(), path);
+      if (!expectedElementType.isAssignableFrom(element.getClass())
+          && !(expectedElementType == Long.class && element instanceof Integer)) {
+        throw lookupFailure(path,
+            InvalidPropertyException.withMessage("Expected property list of {} values, but actual is list contained {} values. Path '{}'",
+                expectedElementType.getCanonicalName(), getActualType(element).getCanonicalName(), path));
       }
     }
   }
 
-  private static Class<?> getActualType(Object value) {
+  private static InvalidPropertyException lookupFailure(String path, InvalidPropertyException exception) {
+    new PropertyLookupFailureEvent().commit(path, exception.getMessage());
+    return exception;
+  }
+
+  /**
+   * Checks int to long and int to double widening.
+   */
+  private static boolean isWidenedTo(Object value, Class<?> expectedType) {
+    return value instanceof Integer && (expectedType == Long.class || expectedType == Double.class);
+  }
+
+  static Class<?> getActualType(Object value) {
     final Class<?> actualType;
     if (PropertiesHandle.class.isAssignableFrom(value.getClass())) {
       actualType = PropertiesHandle.class;
     } else if (java.util.Map.class.isAssignableFrom(value.getClass())) {
       actualType = java.util.Map.class;
-    } else if (java.util.List.class.isAssignableFrom(value.getClass())) {
+    } else if (java.util.List.class.isAssignableFrom(value.getClass())
+        || value instanceof long[] || value instanceof boolean[]) {
       actualType = java.util.List.class;
     } else {
       actualType = value.getClass();
@@ -219,8 +420,16 @@ public abstract class AbstractMapBasedProperties implements UnmovablePropertiesH
     return actualType;
   }
 
-  @SuppressWarnings("unchecked")
   private Object traverse(String path) {
+    var event = new PropertyLookupEvent();
+    event.begin();
+    Object result = traverseMap(path);
+    event.commit(path, result != null);
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object traverseMap(String path) {
     if (path == null) {
       return null;
     }
@@ -0,0 +1,58 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable map of canonical properties subtree.
+ * <p>
+ * Hash code is calculated once, so lookups of subtrees in the canonical table do not traverse nested subtrees.
+ */
+final class CanonicalPropertiesMap extends AbstractMap<String, Object> {
+  private final Map<String, Object> map;
+  private final int hashCode;
+
+  CanonicalPropertiesMap(LinkedHashMap<String, Object> map) {
+    this.map = map;
+    this.hashCode = map.hashCode();
+  }
+
+  @Override
+  public Object get(Object key) {
+    return map.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return Collections.unmodifiableMap(map).entrySet();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof CanonicalPropertiesMap other && hashCode != other.hashCode) {
+      return false;
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+}
@@ -0,0 +1,243 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.exception.InvalidPropertyException;
+import tech.intellispaces.commons.exception.UnexpectedViolationException;
+import tech.intellispaces.commons.function.FunctionFunctions;
+import tech.intellispaces.commons.type.TypeFunctions;
+import tech.intellispaces.core.common.NameConventionFunctions;
+import tech.intellispaces.core.object.ObjectFunctions;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Compiled schema of the data class.
+ * <p>
+ * Schema resolves data class constructor and its parameters once per target class.
+ * Binding visits each property node consumed by the data class once, validates it and collects constructor arguments.
+ * Nested data objects are bound directly from nested maps without creating intermediate properties handles.
+ * All found mismatches are reported together.
+ */
+class DataClassSchema {
+  private static final ClassValue<DataClassSchema> SCHEMAS = new ClassValue<>() {
+    @Override
+    protected DataClassSchema computeValue(Class<?> targetClass) {
+      return new DataClassSchema(targetClass);
+    }
+  };
+
+  private final Class<?> targetClass;
+  private final Constructor<?> constructor;
+  private final ParameterSchema[] parameters;
+  private final Map<String, Integer> parameterIndexes;
+
+  static DataClassSchema of(Class<?> targetClass) {
+    return SCHEMAS.get(targetClass);
+  }
+
+  /**
+   * Returns schema of the data class, checking that the target class is data object handle class.
+   */
+  static DataClassSchema ofDataClass(Class<?> targetClass) {
+    if (!ObjectFunctions.isDataObjectHandle(targetClass)) {
+      throw UnexpectedViolationException.withMessage("Expected data object handle class, but actual class is {}",
+          targetClass.getCanonicalName());
+    }
+    return of(targetClass);
+  }
+
+  private DataClassSchema(Class<?> targetClass) {
+    Class<?> domainClass = ObjectFunctions.getDomainClassOfObjectHandle(targetClass);
+    String dataHandleObjectCanonicalName = NameConventionFunctions.getDataClassName(domainClass.getName());
+    Class<?> dataHandleObjectClass = TypeFunctions.getClassOrElseThrow(dataHandleObjectCanonicalName, () ->
+        UnexpectedViolationException.withMessage("Can't find data handle class. Domain class {}, expected data handle class {}",
+            domainClass.getCanonicalName(), dataHandleObjectCanonicalName));
+    Constructor<?>[] constructors = dataHandleObjectClass.getDeclaredConstructors();
+    if (constructors.length != 1) {
+      throw UnexpectedViolationException.withMessage("Data class {} must contain one constructor", dataHandleObjectCanonicalName);
+    }
+    Constructor<?> constructor = constructors[0];
+    if (constructor.getParameterCount() != domainClass.getMethods().length) {
+      throw UnexpectedViolationException.withMessage("Data class {} must contain constructor with {} parameters",
+          dataHandleObjectCanonicalName, targetClass.getMethods().length);
+    }
+
+    this.targetClass = targetClass;
+    this.constructor = constructor;
+    this.parameters = new ParameterSchema[constructor.getParameterCount()];
+    this.parameterIndexes = new HashMap<>();
+    int index = 0;
+    for (Parameter param : constructor.getParameters()) {
+      parameterIndexes.put(param.getName(), index);
+      parameters[index++] = new ParameterSchema(param.getName(), param.getType());
+    }
+  }
+
+  Class<?> targetClass() {
+    return targetClass;
+  }
+
+  /**
+   * Binds the data object.
+   *
+   * @param map properties tree.
+   * @return the data object.
+   * @throws InvalidPropertyException if properties tree does not match the data class.
+   */
+  Object bind(Map<String, Object> map) {
+    return bind(map, (BindingCache) null);
+  }
+
+  /**
+   * Binds the data object reusing data objects from the cache.
+   *
+   * @param map properties tree.
+   * @param cache cache of data objects or <code>null</code>.
+   * @return the data object.
+   * @throws InvalidPropertyException if properties tree does not match the data class.
+   */
+  Object bind(Map<String, Object> map, BindingCache cache) {
+    var errors = new ArrayList<InvalidPropertyException>();
+    Object data = bind(map, "", errors, cache);
+    checkErrors(errors);
+    return data;
+  }
+
+  /**
+   * Throws exception if some mismatches are found.
+   */
+  void checkErrors(List<InvalidPropertyException> errors) {
+    if (errors.size() == 1) {
+      throw errors.get(0);
+    } else if (!errors.isEmpty()) {
+      throw InvalidPropertyException.withMessage("Properties can't be mapped to data class {}. {}",
+          targetClass.getCanonicalName(),
+          errors.stream().map(Throwable::getMessage).collect(Collectors.joining("; ")));
+    }
+  }
+
+  /**
+   * Binds the data object and collects mismatches.
+   *
+   * @return the data object or <code>null</code> if some mismatches are found.
+   */
+  @SuppressWarnings("unchecked")
+  Object bind(
+      Map<String, Object> map, String pathPrefix, List<InvalidPropertyException> errors, BindingCache cache
+  ) {
+    if (cache != null) {
+      Object data = cache.get(this, map);
+      if (data != null) {
+        return data;
+      }
+    }
+    int numErrors = errors.size();
+    Object[] arguments = new Object[parameters.length];
+    for (int i = 0; i < parameters.length; i++) {
+      ParameterSchema param = parameters[i];
+      Object value = map.get(param.name);
+      if (value == null) {
+        value = param.defaultValue;
+      } else if (value instanceof Map<?, ?> nestedMap && param.objectHandle) {
+        value = DataClassSchema.of(param.type)
+            .bind((Map<String, Object>) nestedMap, pathPrefix + param.name + ".", errors, cache);
+      } else {
+        value = param.convert(pathPrefix + param.name, value, errors);
+      }
+      arguments[i] = value;
+    }
+    if (errors.size() > numErrors) {
+      return null;
+    }
+    Object data = newInstance(arguments);
+    if (cache != null) {
+      cache.put(this, map, data);
+    }
+    return data;
+  }
+
+  Object newInstance(Object[] arguments) {
+    return FunctionFunctions.applyAndCoverIfChecked(constructor::newInstance, arguments);
+  }
+
+  ParameterSchema[] parameters() {
+    return parameters;
+  }
+
+  /**
+   * Returns index of the constructor parameter or -1 if there is no parameter with such name.
+   */
+  int parameterIndex(String name) {
+    Integer index = parameterIndexes.get(name);
+    return (index != null ? index : -1);
+  }
+
+  /**
+   * Cache of bound data objects.
+   */
+  interface BindingCache {
+
+    /**
+     * Returns data object bound earlier from the equal properties tree or <code>null</code>.
+     */
+    Object get(DataClassSchema schema, Map<String, Object> map);
+
+    void put(DataClassSchema schema, Map<String, Object> map, Object data);
+  }
+
+  static final class ParameterSchema {
+    final String name;
+    final Class<?> type;
+    final boolean objectHandle;
+    final Object defaultValue;
+
+    ParameterSchema(String name, Class<?> type) {
+      this.name = name;
+      this.type = type;
+      this.objectHandle = ObjectFunctions.isObjectHandleClass(type);
+      this.defaultValue = (type.isPrimitive() ? TypeFunctions.getDefaultValueOf(type) : null);
+    }
+
+    /**
+     * Converts raw property value to the argument value.
+     *
+     * @return the argument value or <code>null</code> if value does not match the parameter type.
+     */
+    Object convert(String path, Object rawValue, List<InvalidPropertyException> errors) {
+      Object value;
+      try {
+        value = AbstractMapBasedProperties.convertValue(path, rawValue);
+      } catch (InvalidPropertyException e) {
+        errors.add(e);
+        return null;
+      }
+      if (!isAssignable(value)) {
+        errors.add(InvalidPropertyException.withMessage("Expected property value of {} type, but actual is {}. Path '{}'",
+            type.getCanonicalName(), AbstractMapBasedProperties.getActualType(value).getCanonicalName(), path));
+        return null;
+      }
+      return value;
+    }
+
+    private boolean isAssignable(Object value) {
+      if (!type.isPrimitive()) {
+        return type.isInstance(value);
+      }
+      if (value instanceof Integer) {
+        return type == int.class || type == long.class || type == float.class || type == double.class;
+      } else if (value instanceof Long) {
+        return type == long.class || type == float.class || type == double.class;
+      } else if (value instanceof Double) {
+        return type == double.class;
+      } else if (value instanceof Boolean) {
+        return type == boolean.class;
+      }
+      return false;
+    }
+  }
+}
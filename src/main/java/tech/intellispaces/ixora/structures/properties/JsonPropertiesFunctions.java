@@ -0,0 +1,60 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.properties.PropertiesHandle;
+
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * JSON properties functions.
+ */
+public final class JsonPropertiesFunctions {
+
+  private JsonPropertiesFunctions() {}
+
+  /**
+   * Parses the whole JSON object text into properties.
+   */
+  public static PropertiesHandle parse(CharSequence text) {
+    return parse(new JsonPropertiesParser(text));
+  }
+
+  /**
+   * Parses the whole JSON object text into properties.
+   */
+  public static PropertiesHandle parse(Reader reader) {
+    return parse(new JsonPropertiesParser(reader));
+  }
+
+  private static PropertiesHandle parse(JsonPropertiesParser parser) {
+    var map = parser.readObject();
+    parser.expectEnd();
+    return new MapBasedProperties(map);
+  }
+
+  /**
+   * Creates properties based on the JSON object text which parse top-level sections on demand.
+   * <p>
+   * Only boundaries of top-level sections are indexed on creation. Section is parsed when it is accessed
+   * for the first time, then parsed value is cached. The text should not be changed after the call.
+   */
+  public static PropertiesHandle parseLazily(CharSequence text) {
+    return new MapBasedProperties(new LazySectionMap(text));
+  }
+
+  /**
+   * Creates properties based on the encoded JSON object text which parse top-level sections on demand.
+   * <p>
+   * Text encoded in UTF-8, US-ASCII or ISO-8859-1 is indexed by byte offsets without decoding, and only accessed
+   * sections are decoded. Text in other charsets is decoded entirely on creation. The array should not be changed
+   * after the call. Offsets in errors of section parsing are counted from the section start.
+   *
+   * @see #parseLazily(CharSequence)
+   */
+  public static PropertiesHandle parseLazily(byte[] bytes, Charset charset) {
+    if (LazySectionMap.isIndexableCharset(charset)) {
+      return new MapBasedProperties(new LazySectionMap(bytes, charset));
+    }
+    return parseLazily(new String(bytes, charset));
+  }
+}
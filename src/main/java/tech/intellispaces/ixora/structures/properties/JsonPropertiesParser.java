@@ -0,0 +1,337 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.exception.InvalidPropertyException;
+import tech.intellispaces.commons.exception.UnexpectedViolationException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parser of JSON text into the tree of properties values.
+ * <p>
+ * JSON objects are parsed to maps, arrays to lists, integral numbers to {@link Integer} or {@link Long},
+ * other numbers to {@link Double}. Arrays of integral numbers containing {@link Long} values and arrays
+ * of booleans are stored unboxed. Null array elements are rejected, because properties lists can't contain them.
+ * The parser reads the text sequentially and keeps only fixed size buffer, so it can be used both for in-memory
+ * texts and for streams.
+ */
+class JsonPropertiesParser {
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Reader reader;
+  private final CharSequence text;
+  private final int textEnd;
+  private final char[] buffer;
+  private int position;
+  private int limit;
+  private long bufferOffset;
+
+  JsonPropertiesParser(Reader reader) {
+    this.reader = reader;
+    this.text = null;
+    this.textEnd = 0;
+    this.buffer = new char[BUFFER_SIZE];
+  }
+
+  JsonPropertiesParser(CharSequence text) {
+    this(text, 0, text.length());
+  }
+
+  JsonPropertiesParser(CharSequence text, int start, int end) {
+    this.reader = null;
+    this.text = text;
+    this.textEnd = end;
+    this.buffer = new char[Math.min(BUFFER_SIZE, Math.max(end - start, 1))];
+    this.bufferOffset = start;
+  }
+
+  /**
+   * Offset of the next unread character.
+   */
+  long offset() {
+    return bufferOffset + position;
+  }
+
+  /**
+   * Returns the next non-whitespace character without consuming it, or -1 at the end of the text.
+   */
+  int peek() {
+    while (true) {
+      if (position == limit && !fill()) {
+        return -1;
+      }
+      char ch = buffer[position];
+      if (ch == ' ' || ch == '\n' || ch == '\r' || ch == '\t') {
+        position++;
+      } else {
+        return ch;
+      }
+    }
+  }
+
+  void expect(char expected) {
+    int ch = peek();
+    if (ch != expected) {
+      throw unexpectedCharacter(ch);
+    }
+    position++;
+  }
+
+  /**
+   * Consumes the next character if it equals to the expected one.
+   */
+  boolean consume(char expected) {
+    if (peek() == expected) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  void expectEnd() {
+    int ch = peek();
+    if (ch != -1) {
+      throw unexpectedCharacter(ch);
+    }
+  }
+
+  Map<String, Object> readObject() {
+    expect('{');
+    var map = new LinkedHashMap<String, Object>();
+    if (consume('}')) {
+      return map;
+    }
+    do {
+      String key = readKey();
+      map.put(key, readValue());
+    } while (consume(','));
+    expect('}');
+    return map;
+  }
+
+  List<?> readArray() {
+    expect('[');
+    var list = new ArrayList<>();
+    if (consume(']')) {
+      return list;
+    }
+    do {
+      peek();
+      long start = offset();
+      Object element = readValue();
+      if (element == null) {
+        throw invalidText("Null array elements are not supported", start);
+      }
+      list.add(element);
+    } while (consume(','));
+    expect(']');
+    return unbox(list);
+  }
+
+  /**
+   * Replaces lists of long and boolean values by unboxed ones.
+   */
+  private static List<?> unbox(List<Object> list) {
+    Object firstElement = list.get(0);
+    List<?> unboxedList = null;
+    if (firstElement instanceof Integer || firstElement instanceof Long) {
+      unboxedList = UnboxedLongList.ofLongValues(list);
+    } else if (firstElement instanceof Boolean) {
+      unboxedList = UnboxedBooleanList.ofBooleanValues(list);
+    }
+    return (unboxedList != null ? unboxedList : list);
+  }
+
+  /**
+   * Reads object key and the following colon.
+   */
+  String readKey() {
+    String key = readString();
+    expect(':');
+    return key;
+  }
+
+  Object readValue() {
+    int ch = peek();
+    return switch (ch) {
+      case '{' -> readObject();
+      case '[' -> readArray();
+      case '"' -> readString();
+      case 't', 'f', 'n' -> readLiteral();
+      default -> readNumber();
+    };
+  }
+
+  /**
+   * Skips the next value without building it.
+   * <p>
+   * Only the structure of the skipped value is checked, scalar tokens are not validated.
+   */
+  void skipValue() {
+    int ch = peek();
+    if (ch == '"') {
+      skipString();
+    } else if (ch == '{' || ch == '[') {
+      int depth = 0;
+      do {
+        ch = peek();
+        if (ch == -1) {
+          throw unexpectedCharacter(ch);
+        } else if (ch == '"') {
+          skipString();
+        } else {
+          if (ch == '{' || ch == '[') {
+            depth++;
+          } else if (ch == '}' || ch == ']') {
+            depth--;
+          }
+          position++;
+        }
+      } while (depth > 0);
+    } else if (ch == -1 || ch == ',' || ch == '}' || ch == ']' || ch == ':') {
+      throw unexpectedCharacter(ch);
+    } else {
+      readToken();
+    }
+  }
+
+  String readString() {
+    expect('"');
+    var sb = new StringBuilder();
+    while (true) {
+      char ch = nextChar();
+      if (ch == '"') {
+        return sb.toString();
+      } else if (ch == '\\') {
+        char escaped = nextChar();
+        switch (escaped) {
+          case '"', '\\', '/' -> sb.append(escaped);
+          case 'b' -> sb.append('\b');
+          case 'f' -> sb.append('\f');
+          case 'n' -> sb.append('\n');
+          case 'r' -> sb.append('\r');
+          case 't' -> sb.append('\t');
+          case 'u' -> sb.append(readUnicodeEscape());
+          default -> throw invalidText("Invalid escape character '" + escaped + "'");
+        }
+      } else {
+        sb.append(ch);
+      }
+    }
+  }
+
+  private void skipString() {
+    expect('"');
+    while (true) {
+      char ch = nextChar();
+      if (ch == '"') {
+        return;
+      } else if (ch == '\\') {
+        nextChar();
+      }
+    }
+  }
+
+  private char readUnicodeEscape() {
+    int code = 0;
+    for (int i = 0; i < 4; i++) {
+      int digit = Character.digit(nextChar(), 16);
+      if (digit < 0) {
+        throw invalidText("Invalid unicode escape");
+      }
+      code = (code << 4) | digit;
+    }
+    return (char) code;
+  }
+
+  private Object readLiteral() {
+    long start = offset();
+    String token = readToken();
+    return switch (token) {
+      case "true" -> Boolean.TRUE;
+      case "false" -> Boolean.FALSE;
+      case "null" -> null;
+      default -> throw invalidText("Unexpected token '" + token + "'", start);
+    };
+  }
+
+  private Object readNumber() {
+    long start = offset();
+    String token = readToken();
+    if (token.isEmpty()) {
+      throw unexpectedCharacter(peek());
+    }
+    try {
+      if (token.indexOf('.') >= 0 || token.indexOf('e') >= 0 || token.indexOf('E') >= 0) {
+        return Double.parseDouble(token);
+      }
+      long value = Long.parseLong(token);
+      if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+        return (int) value;
+      }
+      return value;
+    } catch (NumberFormatException e) {
+      throw invalidText("Invalid number '" + token + "'", start);
+    }
+  }
+
+  private String readToken() {
+    var sb = new StringBuilder();
+    while (position < limit || fill()) {
+      char ch = buffer[position];
+      if (ch == ',' || ch == '}' || ch == ']' || ch == ':' || ch == ' ' || ch == '\n' || ch == '\r' || ch == '\t') {
+        break;
+      }
+      sb.append(ch);
+      position++;
+    }
+    return sb.toString();
+  }
+
+  private char nextChar() {
+    if (position == limit && !fill()) {
+      throw invalidText("Unexpected end of text");
+    }
+    return buffer[position++];
+  }
+
+  private boolean fill() {
+    bufferOffset += limit;
+    position = 0;
+    limit = 0;
+    if (text != null) {
+      int length = (int) Math.max(0, Math.min(buffer.length, textEnd - bufferOffset));
+      for (int i = 0; i < length; i++) {
+        buffer[i] = text.charAt((int) bufferOffset + i);
+      }
+      limit = length;
+      return length > 0;
+    }
+    try {
+      int length = reader.read(buffer);
+      limit = Math.max(length, 0);
+      return length > 0;
+    } catch (IOException e) {
+      throw UnexpectedViolationException.withCauseAndMessage(e, "Failed to read JSON text");
+    }
+  }
+
+  private InvalidPropertyException unexpectedCharacter(int ch) {
+    if (ch == -1) {
+      return invalidText("Unexpected end of text");
+    }
+    return invalidText("Unexpected character '" + (char) ch + "'");
+  }
+
+  private InvalidPropertyException invalidText(String reason) {
+    return invalidText(reason, offset());
+  }
+
+  private InvalidPropertyException invalidText(String reason, long offset) {
+    return InvalidPropertyException.withMessage("Invalid JSON text. {}. Offset {}", reason, offset);
+  }
+}
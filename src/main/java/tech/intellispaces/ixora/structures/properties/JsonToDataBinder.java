@@ -0,0 +1,180 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.exception.InvalidPropertyException;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Binder of JSON text directly to data objects.
+ * <p>
+ * The text is read token by token, and data objects are built without intermediate properties trees.
+ * Values that are not consumed by data classes are skipped without building them.
+ * Record streams are processed one record at a time, so the memory used does not depend on the stream size.
+ */
+public class JsonToDataBinder {
+
+  /**
+   * Binds JSON object to the data object.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T bind(Reader reader, Class<T> targetClass) {
+    DataClassSchema schema = DataClassSchema.ofDataClass(targetClass);
+    var parser = new JsonPropertiesParser(reader);
+    T data = (T) bindRecord(parser, schema);
+    parser.expectEnd();
+    return data;
+  }
+
+  /**
+   * Binds JSON object encoded in UTF-8 to the data object.
+   */
+  public <T> T bind(ByteBuffer buffer, Class<T> targetClass) {
+    return bind(newReader(buffer), targetClass);
+  }
+
+  /**
+   * Binds JSON records to data objects.
+   * <p>
+   * Records are either elements of the top-level JSON array or top-level JSON objects following each other,
+   * like in JSON Lines text. Records are read lazily, when the stream is consumed.
+   */
+  public <T> Stream<T> bindRecords(Reader reader, Class<T> targetClass) {
+    DataClassSchema schema = DataClassSchema.ofDataClass(targetClass);
+    Iterator<T> iterator = new RecordIterator<>(new JsonPropertiesParser(reader), schema);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+        Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  /**
+   * Binds JSON records encoded in UTF-8 to data objects.
+   *
+   * @see #bindRecords(Reader, Class)
+   */
+  public <T> Stream<T> bindRecords(ByteBuffer buffer, Class<T> targetClass) {
+    return bindRecords(newReader(buffer), targetClass);
+  }
+
+  private static Object bindRecord(JsonPropertiesParser parser, DataClassSchema schema) {
+    var errors = new ArrayList<InvalidPropertyException>();
+    Object data = bindObject(parser, schema, "", errors);
+    schema.checkErrors(errors);
+    return data;
+  }
+
+  private static Object bindObject(
+      JsonPropertiesParser parser, DataClassSchema schema, String pathPrefix, List<InvalidPropertyException> errors
+  ) {
+    int numErrors = errors.size();
+    DataClassSchema.ParameterSchema[] parameters = schema.parameters();
+    Object[] arguments = new Object[parameters.length];
+    parser.expect('{');
+    if (!parser.consume('}')) {
+      do {
+        String key = parser.readKey();
+        int index = schema.parameterIndex(key);
+        if (index < 0) {
+          parser.skipValue();
+          continue;
+        }
+        DataClassSchema.ParameterSchema param = parameters[index];
+        if (param.objectHandle && parser.peek() == '{') {
+          arguments[index] = bindObject(parser, DataClassSchema.of(param.type), pathPrefix + key + ".", errors);
+        } else {
+          Object value = parser.readValue();
+          arguments[index] = (value != null ? param.convert(pathPrefix + key, value, errors) : null);
+        }
+      } while (parser.consume(','));
+      parser.expect('}');
+    }
+    if (errors.size() > numErrors) {
+      return null;
+    }
+    for (int i = 0; i < parameters.length; i++) {
+      if (arguments[i] == null) {
+        arguments[i] = parameters[i].defaultValue;
+      }
+    }
+    return schema.newInstance(arguments);
+  }
+
+  private static Reader newReader(ByteBuffer buffer) {
+    ByteBuffer source = buffer.duplicate();
+    var channel = new ReadableByteChannel() {
+      private boolean open = true;
+
+      @Override
+      public int read(ByteBuffer target) {
+        if (!source.hasRemaining()) {
+          return -1;
+        }
+        int length = Math.min(target.remaining(), source.remaining());
+        target.put(source.slice(source.position(), length));
+        source.position(source.position() + length);
+        return length;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return open;
+      }
+
+      @Override
+      public void close() {
+        open = false;
+      }
+    };
+    return Channels.newReader(channel, StandardCharsets.UTF_8);
+  }
+
+  private static final class RecordIterator<T> implements Iterator<T> {
+    private final JsonPropertiesParser parser;
+    private final DataClassSchema schema;
+    private boolean started;
+    private boolean array;
+
+    RecordIterator(JsonPropertiesParser parser, DataClassSchema schema) {
+      this.parser = parser;
+      this.schema = schema;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!started) {
+        started = true;
+        if (parser.consume('[')) {
+          array = !parser.consume(']');
+          if (!array) {
+            parser.expectEnd();
+          }
+        }
+      }
+      return parser.peek() != -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T data = (T) bindRecord(parser, schema);
+      if (array && !parser.consume(',')) {
+        parser.expect(']');
+        parser.expectEnd();
+      }
+      return data;
+    }
+  }
+}
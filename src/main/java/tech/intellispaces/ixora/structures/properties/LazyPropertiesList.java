@@ -0,0 +1,75 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.properties.PropertiesHandle;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Unmodifiable list of properties handles based on the list of maps.
+ * <p>
+ * Handle of the element is created on first access by index and is cached.
+ * Iteration does not cache handles, so handles of elements that were not accessed by index can be collected
+ * as soon as they are not used.
+ */
+class LazyPropertiesList extends AbstractList<PropertiesHandle> implements RandomAccess {
+  private final List<Map<String, Object>> maps;
+  private final AtomicReferenceArray<PropertiesHandle> handles;
+
+  LazyPropertiesList(List<Map<String, Object>> maps) {
+    this.maps = maps;
+    this.handles = new AtomicReferenceArray<>(maps.size());
+  }
+
+  @Override
+  public PropertiesHandle get(int index) {
+    PropertiesHandle handle = handles.get(index);
+    if (handle == null) {
+      handles.compareAndSet(index, null, new MapBasedProperties(maps.get(index)));
+      handle = handles.get(index);
+    }
+    return handle;
+  }
+
+  @Override
+  public int size() {
+    return maps.size();
+  }
+
+  @Override
+  public Iterator<PropertiesHandle> iterator() {
+    return new Iterator<>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < maps.size();
+      }
+
+      @Override
+      public PropertiesHandle next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        PropertiesHandle handle = handles.get(index);
+        if (handle == null) {
+          handle = new MapBasedProperties(maps.get(index));
+        }
+        index++;
+        return handle;
+      }
+    };
+  }
+
+  @Override
+  public Spliterator<PropertiesHandle> spliterator() {
+    return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+}
@@ -0,0 +1,245 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Unmodifiable map of top-level sections of the JSON object text.
+ * <p>
+ * On creation only boundaries of sections are indexed. Section value is parsed when it is requested for the first
+ * time, and then the parsed value is cached. Keys and entries are enumerated without parsing sections, entry value
+ * is parsed when it is requested. If the key is repeated, the last section is used, but the key keeps the position
+ * of its first occurrence, like in {@link LinkedHashMap}.
+ * <p>
+ * Text encoded in UTF-8, US-ASCII or ISO-8859-1 is indexed by byte offsets directly, because structural characters
+ * of JSON are encoded by single bytes which do not occur inside multibyte sequences. Only sections which are
+ * accessed are decoded.
+ */
+class LazySectionMap extends AbstractMap<String, Object> {
+  private static final Object NULL_VALUE = new Object();
+
+  private final CharSequence text;
+  private final byte[] bytes;
+  private final Charset charset;
+  private final int[] starts;
+  private final int[] ends;
+  private final Map<String, Integer> indexes;
+  private final AtomicReferenceArray<Object> values;
+
+  LazySectionMap(CharSequence text) {
+    this(text, null, null);
+  }
+
+  /**
+   * @param bytes text encoded in UTF-8, US-ASCII or ISO-8859-1.
+   * @param charset charset of the text.
+   */
+  LazySectionMap(byte[] bytes, Charset charset) {
+    this(new ByteCharSequence(bytes), bytes, charset);
+  }
+
+  static boolean isIndexableCharset(Charset charset) {
+    return StandardCharsets.UTF_8.equals(charset)
+        || StandardCharsets.US_ASCII.equals(charset)
+        || StandardCharsets.ISO_8859_1.equals(charset);
+  }
+
+  private LazySectionMap(CharSequence text, byte[] bytes, Charset charset) {
+    this.text = text;
+    this.bytes = bytes;
+    this.charset = charset;
+
+    var keys = new ArrayList<String>();
+    var starts = new ArrayList<Integer>();
+    var ends = new ArrayList<Integer>();
+    var parser = new JsonPropertiesParser(text);
+    parser.expect('{');
+    if (!parser.consume('}')) {
+      do {
+        parser.peek();
+        int keyStart = (int) parser.offset();
+        String key = parser.readString();
+        int keyEnd = (int) parser.offset();
+        parser.expect(':');
+        keys.add(decodeKey(key, keyStart, keyEnd));
+        parser.peek();
+        starts.add((int) parser.offset());
+        parser.skipValue();
+        ends.add((int) parser.offset());
+      } while (parser.consume(','));
+      parser.expect('}');
+    }
+    parser.expectEnd();
+
+    this.starts = starts.stream().mapToInt(Integer::intValue).toArray();
+    this.ends = ends.stream().mapToInt(Integer::intValue).toArray();
+    this.indexes = new LinkedHashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      indexes.put(keys.get(i), i);
+    }
+    this.values = new AtomicReferenceArray<>(keys.size());
+  }
+
+  @Override
+  public Object get(Object key) {
+    Integer index = indexes.get(key);
+    return (index != null ? sectionValue(index) : null);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexes.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return indexes.size();
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return Collections.unmodifiableSet(indexes.keySet());
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        Iterator<Entry<String, Integer>> iterator = indexes.entrySet().iterator();
+        return new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public Entry<String, Object> next() {
+            Entry<String, Integer> entry = iterator.next();
+            return new SectionEntry(entry.getKey(), entry.getValue());
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return indexes.size();
+      }
+    };
+  }
+
+  /**
+   * Decodes the key of the byte text read as ISO-8859-1 characters, if it contains non-ASCII characters.
+   */
+  private String decodeKey(String key, int start, int end) {
+    if (bytes == null || StandardCharsets.ISO_8859_1.equals(charset) || key.chars().allMatch(ch -> ch < 0x80)) {
+      return key;
+    }
+    return new JsonPropertiesParser(new String(bytes, start, end - start, charset)).readString();
+  }
+
+  private JsonPropertiesParser sectionParser(int index) {
+    if (bytes == null) {
+      return new JsonPropertiesParser(text, starts[index], ends[index]);
+    }
+    return new JsonPropertiesParser(new String(bytes, starts[index], ends[index] - starts[index], charset));
+  }
+
+  private Object sectionValue(int index) {
+    Object value = values.get(index);
+    if (value == null) {
+      var parser = sectionParser(index);
+      Object parsedValue = parser.readValue();
+      parser.expectEnd();
+      values.compareAndSet(index, null, parsedValue != null ? parsedValue : NULL_VALUE);
+      value = values.get(index);
+    }
+    return (value != NULL_VALUE ? value : null);
+  }
+
+  /**
+   * Entry which parses the section value on request.
+   */
+  private final class SectionEntry implements Entry<String, Object> {
+    private final String key;
+    private final int index;
+
+    SectionEntry(String key, int index) {
+      this.key = key;
+      this.index = index;
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public Object getValue() {
+      return sectionValue(index);
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Entry<?, ?> entry
+          && key.equals(entry.getKey())
+          && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode() ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + getValue();
+    }
+  }
+
+  /**
+   * View of bytes as ISO-8859-1 characters.
+   */
+  private static final class ByteCharSequence implements CharSequence {
+    private final byte[] bytes;
+
+    ByteCharSequence(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public int length() {
+      return bytes.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) (bytes[index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.properties.PropertiesHandle;
+import intellispaces.ixora.structures.properties.PropertiesToDataMapper;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Properties to data mapper which reuses data objects bound earlier from equal properties subtrees.
+ * <p>
+ * Data objects are cached by target class and structure of the properties subtree, including nested data objects.
+ * So, after reload of properties, only data objects whose subtrees are changed are built again.
+ * Structural hashes of subtrees are calculated once per mapping. The cache is bounded and evicts least recently
+ * used data objects. Properties trees should not be changed after mapping.
+ * <p>
+ * Unlike {@link PropertiesToDataIxoraMapper}, the mapper is not a guide of the module, because it keeps the cache
+ * of its own: an instance is created with the cache size and used explicitly.
+ */
+public class MemoizingPropertiesToDataMapper implements PropertiesToDataMapper {
+  private final Map<Key, Object> cache;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * @param maxSize maximum number of cached data objects.
+   */
+  public MemoizingPropertiesToDataMapper(int maxSize) {
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  @Override
+  public <T> T propertiesToData(PropertiesHandle properties, Class<T> targetClass) {
+    return PropertiesToDataIxoraMapper.bind(properties, DataClassSchema.ofDataClass(targetClass), new Binding());
+  }
+
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  public long missCount() {
+    return missCount.get();
+  }
+
+  public void clear() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Binding cache of single mapping.
+   */
+  private final class Binding implements DataClassSchema.BindingCache {
+    private final Map<Object, Integer> hashes = new IdentityHashMap<>();
+
+    @Override
+    public Object get(DataClassSchema schema, Map<String, Object> map) {
+      Object data;
+      synchronized (cache) {
+        data = cache.get(new Key(schema.targetClass(), map, hash(map)));
+      }
+      (data != null ? hitCount : missCount).incrementAndGet();
+      return data;
+    }
+
+    @Override
+    public void put(DataClassSchema schema, Map<String, Object> map, Object data) {
+      var key = new Key(schema.targetClass(), map, hash(map));
+      synchronized (cache) {
+        cache.put(key, data);
+      }
+    }
+
+    /**
+     * Calculates hash consistent with {@link Object#equals(Object)} of maps and lists.
+     */
+    private int hash(Object value) {
+      if (value instanceof Map<?, ?> map) {
+        Integer hash = hashes.get(map);
+        if (hash == null) {
+          int h = 0;
+          for (Map.Entry<?, ?> entry : map.entrySet()) {
+            h += Objects.hashCode(entry.getKey()) ^ hash(entry.getValue());
+          }
+          hash = h;
+          hashes.put(map, hash);
+        }
+        return hash;
+      } else if (value instanceof List<?> list) {
+        int h = 1;
+        for (Object element : list) {
+          h = 31 * h + hash(element);
+        }
+        return h;
+      }
+      return Objects.hashCode(value);
+    }
+  }
+
+  private static final class Key {
+    private final Class<?> targetClass;
+    private final Map<String, Object> map;
+    private final int hash;
+
+    Key(Class<?> targetClass, Map<String, Object> map, int hash) {
+      this.targetClass = targetClass;
+      this.map = map;
+      this.hash = 31 * targetClass.hashCode() + hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key other)) {
+        return false;
+      }
+      return hash == other.hash
+          && targetClass == other.targetClass
+          && (map == other.map || map.equals(other.map));
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.properties.PropertiesHandle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonicalizer of properties trees.
+ * <p>
+ * Keys and string values are interned, and structurally equal subtrees are shared between all trees processed by
+ * the canonicalizer. Canonical trees are immutable. Tables of interned strings and shared subtrees are bounded:
+ * when a table is full, new values are still looked up in it, but are not added.
+ * <p>
+ * The canonicalizer is thread-safe.
+ */
+public class PropertiesCanonicalizer {
+  private static final int REFERENCE_BYTES = 4;
+  private static final int ARRAY_HEADER_BYTES = 16;
+  private static final int STRING_BYTES = 24 + ARRAY_HEADER_BYTES;
+  private static final int MAP_BYTES = 56 + 24;
+  private static final int MAP_ENTRY_BYTES = 40;
+  private static final int LIST_BYTES = 24 + 16;
+
+  private final int maxStrings;
+  private final int maxSubtrees;
+  private final Map<String, String> strings = new ConcurrentHashMap<>();
+  private final Map<Object, Object> subtrees = new ConcurrentHashMap<>();
+  private final LongAdder deduplicatedStrings = new LongAdder();
+  private final LongAdder sharedSubtrees = new LongAdder();
+  private final LongAdder bytesSaved = new LongAdder();
+
+  /**
+   * @param maxStrings maximum number of interned strings.
+   * @param maxSubtrees maximum number of shared subtrees.
+   */
+  public PropertiesCanonicalizer(int maxStrings, int maxSubtrees) {
+    this.maxStrings = maxStrings;
+    this.maxSubtrees = maxSubtrees;
+  }
+
+  public PropertiesHandle canonicalize(PropertiesHandle properties) {
+    return new MapBasedProperties(canonicalizeMap(properties.nativeMap()));
+  }
+
+  public PropertiesHandle canonicalize(Map<String, Object> map) {
+    return new MapBasedProperties(canonicalizeMap(map));
+  }
+
+  /**
+   * Returns canonical immutable copy of the properties tree.
+   */
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> canonicalizeMap(Map<String, Object> map) {
+    return (Map<String, Object>) canonicalizeValue(map);
+  }
+
+  /**
+   * Number of strings replaced by the interned ones.
+   */
+  public long deduplicatedStrings() {
+    return deduplicatedStrings.sum();
+  }
+
+  /**
+   * Number of subtrees replaced by the shared ones.
+   */
+  public long sharedSubtrees() {
+    return sharedSubtrees.sum();
+  }
+
+  /**
+   * Estimated number of heap bytes saved by deduplication.
+   * <p>
+   * Estimation assumes compressed references and compact strings.
+   */
+  public long estimatedBytesSaved() {
+    return bytesSaved.sum();
+  }
+
+  private Object canonicalizeValue(Object value) {
+    if (value instanceof String string) {
+      return intern(string);
+    } else if (value instanceof Map<?, ?> map) {
+      var canonicalMap = new LinkedHashMap<String, Object>();
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        canonicalMap.put(intern((String) entry.getKey()), canonicalizeValue(entry.getValue()));
+      }
+      return share(new CanonicalPropertiesMap(canonicalMap), estimateMapBytes(canonicalMap.size()));
+    } else if (value instanceof UnboxedLongList list) {
+      return share(list, estimateArrayListBytes(list.size(), Long.BYTES));
+    } else if (value instanceof UnboxedBooleanList list) {
+      return share(list, estimateArrayListBytes((list.size() + Long.SIZE - 1) / Long.SIZE, Long.BYTES));
+    } else if (value instanceof List<?> list) {
+      var canonicalList = new ArrayList<>(list.size());
+      for (Object element : list) {
+        canonicalList.add(canonicalizeValue(element));
+      }
+      return share(Collections.unmodifiableList(canonicalList), estimateListBytes(canonicalList.size()));
+    }
+    return value;
+  }
+
+  private String intern(String string) {
+    String canonicalString = strings.get(string);
+    if (canonicalString == null) {
+      if (strings.size() >= maxStrings) {
+        return string;
+      }
+      canonicalString = strings.putIfAbsent(string, string);
+      if (canonicalString == null) {
+        return string;
+      }
+    }
+    if (canonicalString != string) {
+      deduplicatedStrings.increment();
+      bytesSaved.add(estimateStringBytes(string));
+    }
+    return canonicalString;
+  }
+
+  private Object share(Object subtree, long subtreeBytes) {
+    Object canonicalSubtree = subtrees.get(subtree);
+    if (canonicalSubtree == null) {
+      if (subtrees.size() >= maxSubtrees) {
+        return subtree;
+      }
+      canonicalSubtree = subtrees.putIfAbsent(subtree, subtree);
+      if (canonicalSubtree == null) {
+        return subtree;
+      }
+    }
+    sharedSubtrees.increment();
+    bytesSaved.add(subtreeBytes);
+    return canonicalSubtree;
+  }
+
+  private static long estimateStringBytes(String string) {
+    return align(STRING_BYTES + string.length());
+  }
+
+  private static long estimateMapBytes(int size) {
+    long capacity = 16;
+    while (size > capacity * 3 / 4) {
+      capacity *= 2;
+    }
+    return MAP_BYTES + align(ARRAY_HEADER_BYTES + capacity * REFERENCE_BYTES) + (long) size * MAP_ENTRY_BYTES;
+  }
+
+  private static long estimateListBytes(int size) {
+    return estimateArrayListBytes(size, REFERENCE_BYTES);
+  }
+
+  private static long estimateArrayListBytes(int size, int elementBytes) {
+    return LIST_BYTES + align(ARRAY_HEADER_BYTES + (long) size * elementBytes);
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+}
@@ -0,0 +1,39 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event of the conversion of the property value to the list handle.
+ */
+@Name("intellispaces.ixora.PropertiesListConversion")
+@Label("Properties List Conversion")
+@Description("Validation and wrapping of the property list value")
+@Category({ "Ixora", "Properties" })
+@Threshold("1 ms")
+@StackTrace(false)
+final class PropertiesListConversionEvent extends jdk.jfr.Event {
+
+  @Label("Path")
+  String path;
+
+  @Label("Element Type")
+  Class<?> elementType;
+
+  @Label("Element Count")
+  int elementCount;
+
+  void commit(String path, Class<?> elementType, int elementCount) {
+    end();
+    if (shouldCommit()) {
+      this.path = path;
+      this.elementType = elementType;
+      this.elementCount = elementCount;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import tech.intellispaces.commons.exception.UnexpectedViolationException;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loader of properties from several sources.
+ * <p>
+ * Sources are fetched and parsed concurrently, each one on its own virtual thread.
+ * Loaded trees are merged in the order of sources: values of the later source override values of the earlier one,
+ * nested maps are merged recursively.
+ */
+public class PropertiesLoader {
+
+  public PropertiesLoadingResult load(List<PropertiesSource> sources) {
+    try {
+      return loadAsync(sources).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Starts loading of sources.
+   *
+   * @throws UnexpectedViolationException if names of sources are not unique.
+   */
+  public CompletableFuture<PropertiesLoadingResult> loadAsync(List<PropertiesSource> sources) {
+    checkUniqueNames(sources);
+    long startTime = System.nanoTime();
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    List<CompletableFuture<LoadedSource>> futures = sources.stream()
+        .map(source -> CompletableFuture.supplyAsync(() -> loadSource(source), executor))
+        .toList();
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+        .thenApply(v -> merge(futures, startTime))
+        .whenComplete((result, e) -> executor.shutdown());
+  }
+
+  private static void checkUniqueNames(List<PropertiesSource> sources) {
+    Set<String> names = new HashSet<>();
+    for (PropertiesSource source : sources) {
+      if (!names.add(source.name())) {
+        throw UnexpectedViolationException.withMessage("Properties source name '{}' is not unique", source.name());
+      }
+    }
+  }
+
+  private static LoadedSource loadSource(PropertiesSource source) {
+    long startTime = System.nanoTime();
+    Map<String, Object> map;
+    try {
+      map = source.load();
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      throw UnexpectedViolationException.withCauseAndMessage(e, "Failed to load properties source '{}'",
+          source.name());
+    }
+    return new LoadedSource(source.name(), map, Duration.ofNanos(System.nanoTime() - startTime));
+  }
+
+  private static PropertiesLoadingResult merge(List<CompletableFuture<LoadedSource>> futures, long startTime) {
+    Map<String, Object> mergedMap = new LinkedHashMap<>();
+    Map<String, Duration> sourceDurations = new LinkedHashMap<>();
+    for (CompletableFuture<LoadedSource> future : futures) {
+      LoadedSource loadedSource = future.join();
+      mergeMaps(mergedMap, loadedSource.map);
+      sourceDurations.put(loadedSource.name, loadedSource.duration);
+    }
+    return new PropertiesLoadingResult(
+        new MapBasedProperties(mergedMap), sourceDurations, Duration.ofNanos(System.nanoTime() - startTime)
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void mergeMaps(Map<String, Object> target, Map<String, Object> source) {
+    if (source == null) {
+      return;
+    }
+    for (Map.Entry<String, Object> entry : source.entrySet()) {
+      Object sourceValue = entry.getValue();
+      Object targetValue = target.get(entry.getKey());
+      if (sourceValue instanceof Map<?, ?> && targetValue instanceof Map<?, ?>) {
+        var mergedValue = new LinkedHashMap<>((Map<String, Object>) targetValue);
+        mergeMaps(mergedValue, (Map<String, Object>) sourceValue);
+        target.put(entry.getKey(), mergedValue);
+      } else {
+        target.put(entry.getKey(), sourceValue);
+      }
+    }
+  }
+
+  private static final class LoadedSource {
+    final String name;
+    final Map<String, Object> map;
+    final Duration duration;
+
+    LoadedSource(String name, Map<String, Object> map, Duration duration) {
+      this.name = name;
+      this.map = map;
+      this.duration = duration;
+    }
+  }
+}
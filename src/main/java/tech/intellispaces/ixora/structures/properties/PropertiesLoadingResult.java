@@ -0,0 +1,45 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.properties.PropertiesHandle;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The result of loading of several properties sources.
+ */
+public class PropertiesLoadingResult {
+  private final PropertiesHandle properties;
+  private final Map<String, Duration> sourceDurations;
+  private final Duration totalDuration;
+
+  public PropertiesLoadingResult(
+      PropertiesHandle properties, Map<String, Duration> sourceDurations, Duration totalDuration
+  ) {
+    this.properties = properties;
+    this.sourceDurations = Collections.unmodifiableMap(sourceDurations);
+    this.totalDuration = totalDuration;
+  }
+
+  /**
+   * Merged properties of all sources.
+   */
+  public PropertiesHandle properties() {
+    return properties;
+  }
+
+  /**
+   * Loading durations of each source by source name, in the order of sources.
+   */
+  public Map<String, Duration> sourceDurations() {
+    return sourceDurations;
+  }
+
+  /**
+   * Wall-clock duration of the whole loading.
+   */
+  public Duration totalDuration() {
+    return totalDuration;
+  }
+}
@@ -0,0 +1,176 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Index of all paths of the properties tree.
+ * <p>
+ * The index contains the sorted map of all paths and the tree of path segments. Patterns are resolved by walking
+ * the tree of segments, so the literal segment and the segment '*' visit only direct children of matched nodes.
+ * Besides, the index groups paths by their last segment. Thus, patterns with the segment '**' ending with the literal
+ * segment are resolved only among paths ending with this segment.
+ */
+class PropertiesPathIndex {
+  private static final String ANY_SEGMENT = "*";
+  private static final String ANY_SEGMENTS = "**";
+
+  private final NavigableMap<String, Object> values = new TreeMap<>();
+  private final Node root = new Node(null, null, null, 0);
+  private final Map<String, List<Node>> nodesByLastSegment = new HashMap<>();
+  private int numNodes;
+
+  PropertiesPathIndex(Map<String, Object> map) {
+    index(root, map);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void index(Node parent, Map<String, Object> map) {
+    for (Map.Entry<String, Object> entry : map.entrySet()) {
+      String path = (parent == root ? entry.getKey() : parent.path + "." + entry.getKey());
+      var node = new Node(parent, entry.getKey(), path, ++numNodes);
+      parent.children.put(entry.getKey(), node);
+      values.put(path, entry.getValue());
+      nodesByLastSegment.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(node);
+      if (entry.getValue() instanceof Map<?, ?> nestedMap) {
+        index(node, (Map<String, Object>) nestedMap);
+      }
+    }
+  }
+
+  /**
+   * Returns the raw value of the path.
+   */
+  Object value(String path) {
+    return values.get(path);
+  }
+
+  /**
+   * Returns all paths nested to the path prefix.
+   */
+  NavigableSet<String> paths(String prefix) {
+    if (prefix.isEmpty()) {
+      return Collections.unmodifiableNavigableSet(values.navigableKeySet());
+    }
+    return Collections.unmodifiableNavigableSet(values.navigableKeySet().subSet(prefix + ".", true, prefix + "/", false));
+  }
+
+  /**
+   * Returns all paths matching the pattern in sorted order.
+   */
+  List<String> query(String pattern) {
+    String[] patternSegments = pattern.split("\\.");
+    boolean anySegments = Arrays.asList(patternSegments).contains(ANY_SEGMENTS);
+    if (!anySegments && !Arrays.asList(patternSegments).contains(ANY_SEGMENT)) {
+      return values.containsKey(pattern) ? List.of(pattern) : List.of();
+    }
+
+    var result = new TreeSet<String>();
+    String lastPatternSegment = patternSegments[patternSegments.length - 1];
+    if (anySegments && !isWildcard(lastPatternSegment)) {
+      for (Node node : nodesByLastSegment.getOrDefault(lastPatternSegment, List.of())) {
+        if (matches(node.segments(), 0, patternSegments, 0)) {
+          result.add(node.path);
+        }
+      }
+    } else {
+      collect(root, patternSegments, 0, anySegments ? new HashSet<>() : null, result);
+    }
+    return new ArrayList<>(result);
+  }
+
+  /**
+   * Collects paths of nodes nested to the node which match the pattern starting from the pattern index.
+   *
+   * @param visited visited pairs of node and pattern index, or <code>null</code> if pattern has no segment '**'.
+   */
+  private void collect(Node node, String[] patternSegments, int patternIndex, Set<Long> visited, Set<String> result) {
+    if (visited != null && !visited.add((long) node.id * (patternSegments.length + 1) + patternIndex)) {
+      return;
+    }
+    if (patternIndex == patternSegments.length) {
+      if (node != root) {
+        result.add(node.path);
+      }
+      return;
+    }
+    String patternSegment = patternSegments[patternIndex];
+    if (ANY_SEGMENTS.equals(patternSegment)) {
+      collect(node, patternSegments, patternIndex + 1, visited, result);
+      for (Node child : node.children.values()) {
+        collect(child, patternSegments, patternIndex, visited, result);
+      }
+    } else if (ANY_SEGMENT.equals(patternSegment)) {
+      for (Node child : node.children.values()) {
+        collect(child, patternSegments, patternIndex + 1, visited, result);
+      }
+    } else {
+      Node child = node.children.get(patternSegment);
+      if (child != null) {
+        collect(child, patternSegments, patternIndex + 1, visited, result);
+      }
+    }
+  }
+
+  private static boolean matches(String[] segments, int segmentIndex, String[] patternSegments, int patternIndex) {
+    while (patternIndex < patternSegments.length) {
+      String patternSegment = patternSegments[patternIndex];
+      if (ANY_SEGMENTS.equals(patternSegment)) {
+        for (int i = segmentIndex; i <= segments.length; i++) {
+          if (matches(segments, i, patternSegments, patternIndex + 1)) {
+            return true;
+          }
+        }
+        return false;
+      }
+      if (segmentIndex == segments.length) {
+        return false;
+      }
+      if (!ANY_SEGMENT.equals(patternSegment) && !patternSegment.equals(segments[segmentIndex])) {
+        return false;
+      }
+      segmentIndex++;
+      patternIndex++;
+    }
+    return segmentIndex == segments.length;
+  }
+
+  private static boolean isWildcard(String segment) {
+    return ANY_SEGMENT.equals(segment) || ANY_SEGMENTS.equals(segment);
+  }
+
+  private static final class Node {
+    final Node parent;
+    final String segment;
+    final String path;
+    final int id;
+    final int depth;
+    final Map<String, Node> children = new HashMap<>();
+
+    Node(Node parent, String segment, String path, int id) {
+      this.parent = parent;
+      this.segment = segment;
+      this.path = path;
+      this.id = id;
+      this.depth = (parent != null ? parent.depth + 1 : 0);
+    }
+
+    String[] segments() {
+      var segments = new String[depth];
+      for (Node node = this; node.parent != null; node = node.parent) {
+        segments[node.depth - 1] = node.segment;
+      }
+      return segments;
+    }
+  }
+}
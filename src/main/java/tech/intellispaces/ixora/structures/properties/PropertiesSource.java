@@ -0,0 +1,37 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * The source of properties loaded by {@link PropertiesLoader}.
+ */
+public interface PropertiesSource {
+
+  /**
+   * Source name used in timing reports and error messages.
+   */
+  String name();
+
+  /**
+   * Fetches and parses the source.
+   *
+   * @return the tree of properties values.
+   * @throws Exception if the source cannot be fetched or parsed.
+   */
+  Map<String, Object> load() throws Exception;
+
+  static PropertiesSource of(String name, Callable<Map<String, Object>> loader) {
+    return new PropertiesSource() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public Map<String, Object> load() throws Exception {
+        return loader.call();
+      }
+    };
+  }
+}
@@ -0,0 +1,33 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event of the mapping of properties to data object.
+ */
+@Name("intellispaces.ixora.PropertiesToData")
+@Label("Properties To Data")
+@Description("Mapping of properties to data object")
+@Category({ "Ixora", "Properties" })
+@Threshold("1 ms")
+final class PropertiesToDataEvent extends jdk.jfr.Event {
+
+  @Label("Target Class")
+  Class<?> targetClass;
+
+  @Label("Succeeded")
+  boolean succeeded;
+
+  void commit(Class<?> targetClass, boolean succeeded) {
+    end();
+    if (shouldCommit()) {
+      this.targetClass = targetClass;
+      this.succeeded = succeeded;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event of the slow property lookup.
+ */
+@Name("intellispaces.ixora.PropertyLookup")
+@Label("Property Lookup")
+@Description("Lookup of the property value by path")
+@Category({ "Ixora", "Properties" })
+@Threshold("1 ms")
+@StackTrace(false)
+final class PropertyLookupEvent extends jdk.jfr.Event {
+
+  @Label("Path")
+  String path;
+
+  @Label("Found")
+  boolean found;
+
+  void commit(String path, boolean found) {
+    end();
+    if (shouldCommit()) {
+      this.path = path;
+      this.found = found;
+      commit();
+    }
+  }
+}
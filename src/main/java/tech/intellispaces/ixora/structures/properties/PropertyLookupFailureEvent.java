@@ -0,0 +1,30 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of the failed property lookup.
+ */
+@Name("intellispaces.ixora.PropertyLookupFailure")
+@Label("Property Lookup Failure")
+@Description("Lookup of the property value rejected because of missing property or type mismatch")
+@Category({ "Ixora", "Properties" })
+final class PropertyLookupFailureEvent extends jdk.jfr.Event {
+
+  @Label("Path")
+  String path;
+
+  @Label("Message")
+  String message;
+
+  void commit(String path, String message) {
+    if (shouldCommit()) {
+      this.path = path;
+      this.message = message;
+      commit();
+    }
+  }
+}
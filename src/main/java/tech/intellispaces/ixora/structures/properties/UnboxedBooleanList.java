@@ -0,0 +1,53 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list of boolean values of the properties tree stored in the bit set.
+ * <p>
+ * The list is equal to any list of the same {@link Boolean} values, so it can be used in properties trees
+ * instead of the boxed list.
+ */
+final class UnboxedBooleanList extends AbstractList<Boolean> implements RandomAccess {
+  final BitSet bits;
+  final int size;
+
+  UnboxedBooleanList(BitSet bits, int size) {
+    this.bits = bits;
+    this.size = size;
+  }
+
+  /**
+   * Creates unboxed list if the list is not empty and all values are {@link Boolean}.
+   *
+   * @return unboxed list or <code>null</code> if values do not match.
+   */
+  static UnboxedBooleanList ofBooleanValues(List<?> list) {
+    if (list.isEmpty()) {
+      return null;
+    }
+    var bits = new BitSet(list.size());
+    for (int i = 0; i < list.size(); i++) {
+      if (!(list.get(i) instanceof Boolean value)) {
+        return null;
+      }
+      bits.set(i, value);
+    }
+    return new UnboxedBooleanList(bits, list.size());
+  }
+
+  @Override
+  public Boolean get(int index) {
+    Objects.checkIndex(index, size);
+    return bits.get(index);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,62 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list of long values of the properties tree stored unboxed.
+ * <p>
+ * The list is equal to any list of the same {@link Long} values, so it can be used in properties trees
+ * instead of the boxed list.
+ */
+final class UnboxedLongList extends AbstractList<Long> implements RandomAccess {
+  final long[] values;
+
+  UnboxedLongList(long[] values) {
+    this.values = values;
+  }
+
+  /**
+   * Creates unboxed list if all values are integral and at least one of them is {@link Long}.
+   *
+   * @return unboxed list or <code>null</code> if values do not match.
+   */
+  static UnboxedLongList ofLongValues(List<?> list) {
+    boolean longFound = false;
+    for (Object element : list) {
+      if (element instanceof Long) {
+        longFound = true;
+      } else if (!(element instanceof Integer)) {
+        return null;
+      }
+    }
+    if (!longFound) {
+      return null;
+    }
+    var values = new long[list.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = ((Number) list.get(i)).longValue();
+    }
+    return new UnboxedLongList(values);
+  }
+
+  @Override
+  public Long get(int index) {
+    return values[index];
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (long value : values) {
+      hashCode = 31 * hashCode + Long.hashCode(value);
+    }
+    return hashCode;
+  }
+}
@@ -0,0 +1,43 @@
+package tech.intellispaces.ixora.structures.collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.core.IntellispacesFramework;
+import tech.intellispaces.core.system.Modules;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link AbstractBooleanBitSetList} class.
+ */
+public class BooleanBitSetListTest {
+
+  @BeforeEach
+  public void init() {
+    IntellispacesFramework.loadModule();
+  }
+
+  @AfterEach
+  public void destroy() {
+    Modules.current().stop();
+  }
+
+  @Test
+  public void testBooleanBitSetListHandle() {
+    // Given
+    var handle = new BooleanBitSetList(new boolean[] { true, false, false });
+
+    // Then
+    assertThat(handle.size()).isEqualTo(3);
+    assertThat(handle.booleanElement(0)).isTrue();
+    assertThat(handle.booleanElement(1)).isFalse();
+    assertThat(handle.element(2)).isFalse();
+    assertThat(handle.nativeList()).isEqualTo(List.of(true, false, false));
+    assertThatThrownBy(() -> handle.booleanElement(3))
+        .isExactlyInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
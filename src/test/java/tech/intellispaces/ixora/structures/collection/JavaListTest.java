@@ -9,6 +9,7 @@ import tech.intellispaces.core.system.Modules;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for {@link AbstractJavaList} class.
@@ -38,4 +39,45 @@ public class JavaListTest {
     assertThat(handle.element(2)).isEqualTo("c");
     assertThat(handle.nativeList()).isEqualTo(javaList);
   }
+
+  @Test
+  public void testSlice() {
+    // Given
+    List<String> javaList = List.of("a", "b", "c", "d", "e");
+    var handle = new JavaList<>(javaList, String.class);
+
+    // When
+    JavaList<String> slice = handle.slice(1, 4);
+    JavaList<String> nestedSlice = slice.slice(1, 3).slice(1, 2);
+
+    // Then
+    assertThat(slice.size()).isEqualTo(3);
+    assertThat(slice.element(0)).isEqualTo("b");
+    assertThat(slice.nativeList()).isEqualTo(List.of("b", "c", "d"));
+    assertThat(slice.elementDomain()).isSameAs(handle.elementDomain());
+    assertThat(nestedSlice.nativeList()).isEqualTo(List.of("d"));
+    assertThat(handle.slice(2, 2).size()).isZero();
+    assertThatThrownBy(() -> slice.element(3))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> handle.slice(3, 6))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  public void testPartition() {
+    // Given
+    List<Integer> javaList = List.of(1, 2, 3, 4, 5, 6, 7);
+    var handle = new JavaList<>(javaList, Integer.class);
+
+    // When
+    List<JavaList<Integer>> chunks = handle.partition(3);
+
+    // Then
+    assertThat(chunks).extracting(JavaList::nativeList)
+        .containsExactly(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7));
+    assertThat(handle.partition(10)).hasSize(1);
+    assertThat(new JavaList<>(List.<Integer>of(), Integer.class).partition(3)).isEmpty();
+    assertThatThrownBy(() -> handle.partition(0))
+        .isExactlyInstanceOf(IllegalArgumentException.class);
+  }
 }
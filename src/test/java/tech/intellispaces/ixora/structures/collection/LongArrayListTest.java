@@ -0,0 +1,42 @@
+package tech.intellispaces.ixora.structures.collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.core.IntellispacesFramework;
+import tech.intellispaces.core.system.Modules;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AbstractLongArrayList} class.
+ */
+public class LongArrayListTest {
+
+  @BeforeEach
+  public void init() {
+    IntellispacesFramework.loadModule();
+  }
+
+  @AfterEach
+  public void destroy() {
+    Modules.current().stop();
+  }
+
+  @Test
+  public void testLongArrayListHandle() {
+    // Given
+    long[] array = { 1, 12345678901L, 3 };
+    var handle = new LongArrayList(array);
+
+    // Then
+    assertThat(handle.size()).isEqualTo(3);
+    assertThat(handle.longElement(0)).isEqualTo(1L);
+    assertThat(handle.longElement(1)).isEqualTo(12345678901L);
+    assertThat(handle.element(2)).isEqualTo(3L);
+    assertThat(handle.toArray()).isEqualTo(array).isNotSameAs(array);
+    assertThat(handle.nativeList()).isEqualTo(List.of(1L, 12345678901L, 3L));
+  }
+}
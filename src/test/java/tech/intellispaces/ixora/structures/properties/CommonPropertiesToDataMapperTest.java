@@ -0,0 +1,27 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.properties.PropertiesToDataMapper;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.commons.exception.UnexpectedViolationException;
+import tech.intellispaces.ixora.test.structures.properties.PropertiesToDataMapperTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Common tests for implementations of {@link PropertiesToDataMapper} in this module.
+ */
+public abstract class CommonPropertiesToDataMapperTest extends PropertiesToDataMapperTest {
+
+  @Test
+  public void testPropertiesToData_whenTargetClassIsNotDataClass() {
+    // Given
+    var properties = new MapBasedProperties(Map.of("key", "value"));
+
+    // Then
+    assertThatThrownBy(() -> guide().propertiesToData(properties, String.class))
+        .isExactlyInstanceOf(UnexpectedViolationException.class)
+        .hasMessage("Expected data object handle class, but actual class is java.lang.String");
+  }
+}
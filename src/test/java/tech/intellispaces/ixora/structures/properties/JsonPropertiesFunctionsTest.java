@@ -0,0 +1,169 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.exception.InvalidPropertyException;
+import intellispaces.ixora.structures.properties.PropertiesHandle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.core.IntellispacesFramework;
+import tech.intellispaces.core.system.Modules;
+import tech.intellispaces.ixora.structures.collection.AbstractBooleanBitSetList;
+import tech.intellispaces.ixora.structures.collection.AbstractLongArrayList;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link JsonPropertiesFunctions} class.
+ */
+public class JsonPropertiesFunctionsTest {
+  private static final String TEXT = """
+      {
+        "key1": 123,
+        "key2": {"key3": 3.14, "key4": "abc\\"def"},
+        "key5": [{"key6": 1}, {"key6": 2}]
+      }
+      """;
+
+  @BeforeEach
+  public void init() {
+    IntellispacesFramework.loadModule();
+  }
+
+  @AfterEach
+  public void destroy() {
+    Modules.current().stop();
+  }
+
+  @Test
+  public void testParse() {
+    // When
+    PropertiesHandle properties = JsonPropertiesFunctions.parse(new StringReader(TEXT));
+
+    // Then
+    assertThat(properties.size()).isEqualTo(3);
+    assertThat(properties.integerValue("key1")).isEqualTo(123);
+    assertThat(properties.doubleValue("key2.key3")).isEqualTo(3.14);
+    assertThat(properties.stringValue("key2.key4")).isEqualTo("abc\"def");
+    assertThat(properties.propertiesList("key5").element(1).integerValue("key6")).isEqualTo(2);
+  }
+
+  @Test
+  public void testParse_whenLongAndBooleanLists() {
+    // When
+    PropertiesHandle properties = JsonPropertiesFunctions.parse(
+        "{\"key1\": [1, 5000000000], \"key2\": [5000000000, 1], \"key3\": [true, false], \"key4\": [1, 2]}");
+
+    // Then
+    assertThat(properties.nativeMap().get("key1")).isInstanceOf(UnboxedLongList.class);
+    assertThat(properties.nativeMap().get("key3")).isInstanceOf(UnboxedBooleanList.class);
+    assertThat(properties.nativeMap()).isEqualTo(Map.of(
+        "key1", List.of(1L, 5000000000L),
+        "key2", List.of(5000000000L, 1L),
+        "key3", List.of(true, false),
+        "key4", List.of(1, 2)));
+    assertThat(properties.value("key1")).isInstanceOf(AbstractLongArrayList.class);
+    assertThat(properties.value("key2")).isInstanceOf(AbstractLongArrayList.class);
+    assertThat(properties.value("key3")).isInstanceOf(AbstractBooleanBitSetList.class);
+    assertThat(properties.integerList("key4").asList().nativeList()).isEqualTo(List.of(1, 2));
+  }
+
+  @Test
+  public void testParse_whenNullArrayElement() {
+    assertThatThrownBy(() -> JsonPropertiesFunctions.parse("{\"key1\": [1, null]}"))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Invalid JSON text. Null array elements are not supported. Offset 13");
+    assertThatThrownBy(() -> JsonPropertiesFunctions.parse("{\"key1\": [null, 1]}"))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Invalid JSON text. Null array elements are not supported. Offset 10");
+  }
+
+  @Test
+  public void testParseLazily() {
+    // When
+    PropertiesHandle properties = JsonPropertiesFunctions.parseLazily(TEXT.getBytes(StandardCharsets.UTF_8),
+        StandardCharsets.UTF_8);
+
+    // Then
+    assertThat(properties.size()).isEqualTo(3);
+    assertThat(properties.integerValue("key1")).isEqualTo(123);
+    assertThat(properties.propertiesValue("key2").nativeMap()).isEqualTo(Map.of("key3", 3.14, "key4", "abc\"def"));
+    assertThat(properties.nativeMap()).isEqualTo(JsonPropertiesFunctions.parse(TEXT).nativeMap());
+  }
+
+  @Test
+  public void testParseLazily_whenNonAsciiText() {
+    // Given
+    String text = "{\"\u043a\u043b\u044e\u04471\": \"\u0437\u043d\u0430\u0447\", \"key2\": {\"\u043a\u043b\u044e\u04473\": \"\u20ac\"}}";
+
+    // When
+    PropertiesHandle utf8Properties = JsonPropertiesFunctions.parseLazily(text.getBytes(StandardCharsets.UTF_8),
+        StandardCharsets.UTF_8);
+    PropertiesHandle utf16Properties = JsonPropertiesFunctions.parseLazily(text.getBytes(StandardCharsets.UTF_16),
+        StandardCharsets.UTF_16);
+
+    // Then
+    assertThat(utf8Properties.stringValue("\u043a\u043b\u044e\u04471")).isEqualTo("\u0437\u043d\u0430\u0447");
+    assertThat(utf8Properties.stringValue("key2.\u043a\u043b\u044e\u04473")).isEqualTo("\u20ac");
+    assertThat(utf8Properties.nativeMap()).isEqualTo(JsonPropertiesFunctions.parse(text).nativeMap());
+    assertThat(utf16Properties.nativeMap()).isEqualTo(JsonPropertiesFunctions.parse(text).nativeMap());
+  }
+
+  @Test
+  public void testParseLazily_whenInvalidSectionIsNotAccessed() {
+    // Given
+    String text = "{\"key1\": {\"key2\": [1, 2, 3]}, \"key3\": {\"key4\": invalid}}";
+
+    // When
+    PropertiesHandle properties = JsonPropertiesFunctions.parseLazily(text);
+
+    // Then
+    assertThat(properties.integerList("key1.key2").asList().nativeList()).isEqualTo(List.of(1, 2, 3));
+    assertThatThrownBy(() -> properties.value("key3"))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Invalid JSON text. Invalid number 'invalid'. Offset 47");
+  }
+
+  @Test
+  public void testParseLazily_whenKeysAreEnumerated() {
+    // Given
+    String text = "{\"key1\": 1, \"key2\": {\"key3\": invalid}}";
+
+    // When
+    PropertiesHandle properties = JsonPropertiesFunctions.parseLazily(text);
+
+    // Then
+    assertThat(properties.nativeMap().keySet()).containsExactly("key1", "key2");
+    assertThat(properties.nativeMap().entrySet()).extracting(Map.Entry::getKey).containsExactly("key1", "key2");
+    assertThat(properties.integerValue("key1")).isEqualTo(1);
+    assertThatThrownBy(() -> properties.value("key2"))
+        .isExactlyInstanceOf(InvalidPropertyException.class);
+  }
+
+  @Test
+  public void testParseLazily_whenKeysAreRepeated() {
+    // Given
+    String text = "{\"key1\": 1, \"key2\": 2, \"key1\": 3}";
+
+    // When
+    PropertiesHandle properties = JsonPropertiesFunctions.parseLazily(text);
+
+    // Then
+    assertThat(properties.nativeMap().keySet()).containsExactly("key1", "key2");
+    assertThat(properties.integerValue("key1")).isEqualTo(3);
+    assertThat(properties.nativeMap().keySet())
+        .containsExactly(JsonPropertiesFunctions.parse(text).nativeMap().keySet().toArray());
+  }
+
+  @Test
+  public void testParseLazily_whenInvalidStructure() {
+    assertThatThrownBy(() -> JsonPropertiesFunctions.parseLazily("{\"key1\": {\"key2\": 1}"))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Invalid JSON text. Unexpected end of text. Offset 20");
+  }
+}
@@ -0,0 +1,169 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.exception.InvalidPropertyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.commons.exception.UnexpectedViolationException;
+import tech.intellispaces.core.IntellispacesFramework;
+import tech.intellispaces.core.system.Modules;
+import tech.intellispaces.ixora.structures.properties.sample.EndpointHandle;
+import tech.intellispaces.ixora.structures.properties.sample.ServiceHandle;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link JsonToDataBinder} class.
+ */
+public class JsonToDataBinderTest {
+  private static final String SERVICE = """
+      {
+        "name": "service1",
+        "unknown1": {"key1": [1, {"key2": "}]"}], "key3": {}},
+        "replicas": 3,
+        "unknown2": [[1, 2], {"key4": "["}, "]"],
+        "unknown3": "abc\\"}def",
+        "endpoint": {"host": "localhost", "unknown4": {"key5": [true]}, "port": 8080}
+      }
+      """;
+
+  @BeforeEach
+  public void init() {
+    IntellispacesFramework.loadModule();
+  }
+
+  @AfterEach
+  public void destroy() {
+    Modules.current().stop();
+  }
+
+  @Test
+  public void testBind_whenReader() {
+    // When
+    ServiceHandle service = new JsonToDataBinder().bind(new StringReader(SERVICE), ServiceHandle.class);
+
+    // Then
+    assertThat(service.name()).isEqualTo("service1");
+    assertThat(service.replicas()).isEqualTo(3);
+    assertThat(service.endpoint().host()).isEqualTo("localhost");
+    assertThat(service.endpoint().port()).isEqualTo(8080);
+    assertThat(service.backup()).isNull();
+  }
+
+  @Test
+  public void testBind_whenByteBuffer() {
+    // Given
+    ByteBuffer buffer = ByteBuffer.wrap(SERVICE.getBytes(StandardCharsets.UTF_8));
+
+    // When
+    ServiceHandle service = new JsonToDataBinder().bind(buffer, ServiceHandle.class);
+
+    // Then
+    assertThat(service.name()).isEqualTo("service1");
+    assertThat(service.replicas()).isEqualTo(3);
+    assertThat(service.endpoint().port()).isEqualTo(8080);
+    assertThat(buffer.position()).isZero();
+  }
+
+  @Test
+  public void testBind_whenSeveralMismatches() {
+    // Given
+    String text = """
+        {"name": 1, "replicas": "three", "endpoint": {"host": "localhost", "port": "http"}, "backup": 5}
+        """;
+
+    // Then
+    assertThatThrownBy(() -> new JsonToDataBinder().bind(new StringReader(text), ServiceHandle.class))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Properties can't be mapped to data class " + ServiceHandle.class.getCanonicalName() + ". " +
+            "Expected property value of java.lang.String type, but actual is java.lang.Integer. Path 'name'; " +
+            "Expected property value of int type, but actual is java.lang.String. Path 'replicas'; " +
+            "Expected property value of int type, but actual is java.lang.String. Path 'endpoint.port'; " +
+            "Expected property value of " + EndpointHandle.class.getCanonicalName() + " type, " +
+            "but actual is java.lang.Integer. Path 'backup'");
+  }
+
+  @Test
+  public void testBind_whenTargetClassIsNotDataClass() {
+    assertThatThrownBy(() -> new JsonToDataBinder().bind(new StringReader("{}"), String.class))
+        .isExactlyInstanceOf(UnexpectedViolationException.class)
+        .hasMessage("Expected data object handle class, but actual class is java.lang.String");
+  }
+
+  @Test
+  public void testBindRecords_whenArray() {
+    // Given
+    String text = """
+        [
+          {"host": "host1", "port": 1, "unknown": [{"port": 2}]},
+          {"port": 3, "host": "host2"}
+        ]
+        """;
+
+    // When
+    List<EndpointHandle> endpoints = new JsonToDataBinder()
+        .bindRecords(new StringReader(text), EndpointHandle.class)
+        .toList();
+
+    // Then
+    assertThat(endpoints).extracting(EndpointHandle::host).containsExactly("host1", "host2");
+    assertThat(endpoints).extracting(EndpointHandle::port).containsExactly(1, 3);
+  }
+
+  @Test
+  public void testBindRecords_whenEmptyArray() {
+    // When
+    List<EndpointHandle> endpoints = new JsonToDataBinder()
+        .bindRecords(new StringReader(" [ ] "), EndpointHandle.class)
+        .toList();
+
+    // Then
+    assertThat(endpoints).isEmpty();
+  }
+
+  @Test
+  public void testBindRecords_whenJsonLines() {
+    // Given
+    String text = """
+        {"host": "host1", "port": 1}
+        {"host": "host2", "port": 2}
+        {"host": "host3", "port": 3}
+        """;
+
+    // When
+    List<EndpointHandle> endpoints = new JsonToDataBinder()
+        .bindRecords(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), EndpointHandle.class)
+        .toList();
+
+    // Then
+    assertThat(endpoints).extracting(EndpointHandle::host).containsExactly("host1", "host2", "host3");
+  }
+
+  @Test
+  public void testBindRecords_whenTrailingComma() {
+    // Given
+    String text = "[{\"host\": \"host1\", \"port\": 1},]";
+
+    // Then
+    assertThatThrownBy(() -> new JsonToDataBinder().bindRecords(new StringReader(text), EndpointHandle.class).toList())
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Invalid JSON text. Unexpected character ']'. Offset 30");
+  }
+
+  @Test
+  public void testBindRecords_whenRecordIsTruncated() {
+    // Given
+    String text = "{\"host\": \"host1\", \"port\": 1}\n{\"host\": \"host2\", \"po";
+
+    // Then
+    assertThatThrownBy(() -> new JsonToDataBinder().bindRecords(new StringReader(text), EndpointHandle.class).toList())
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Invalid JSON text. Unexpected end of text. Offset 50");
+  }
+}
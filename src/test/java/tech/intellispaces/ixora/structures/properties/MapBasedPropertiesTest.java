@@ -1,5 +1,6 @@
 package tech.intellispaces.ixora.structures.properties;
 
+import intellispaces.ixora.structures.collection.ListHandle;
 import intellispaces.ixora.structures.exception.InvalidPropertyException;
 import intellispaces.ixora.structures.properties.PropertiesHandle;
 import org.junit.jupiter.api.AfterEach;
@@ -7,6 +8,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.intellispaces.core.IntellispacesFramework;
 import tech.intellispaces.core.system.Modules;
+import tech.intellispaces.ixora.structures.collection.AbstractBooleanBitSetList;
+import tech.intellispaces.ixora.structures.collection.AbstractLongArrayList;
 
 import java.util.List;
 import java.util.Map;
@@ -111,10 +114,12 @@ public class MapBasedPropertiesTest {
 
     // Then
     assertThat(properties.integerValue(path)).isEqualTo(123);
+    assertThat(properties.longValue(path)).isEqualTo(123L);
+    assertThat(properties.doubleValue(path)).isEqualTo(123.0);
 
-    assertThatThrownBy(() -> properties.doubleValue(path))
+    assertThatThrownBy(() -> properties.booleanValue(path))
         .isExactlyInstanceOf(InvalidPropertyException.class)
-        .hasMessage("Expected property value of java.lang.Double type, but actual is " +
+        .hasMessage("Expected property value of java.lang.Boolean type, but actual is " +
             "java.lang.Integer. Path '" + path + "'");
     assertThatThrownBy(() -> properties.stringValue(path))
         .isExactlyInstanceOf(InvalidPropertyException.class)
@@ -429,6 +434,116 @@ public class MapBasedPropertiesTest {
             "list contained java.util.Map values. Path '" + path + "'");
   }
 
+  @Test
+  public void test_whenLongValue() {
+    // Given
+    String path = "key";
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of(path, 12345678901L));
+
+    // Then
+    assertThat(properties.longValue(path)).isEqualTo(12345678901L);
+    assertThat(properties.value(path)).isEqualTo(12345678901L);
+
+    assertThatThrownBy(() -> properties.integerValue(path))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Expected property value of java.lang.Integer type, but actual is " +
+            "java.lang.Long. Path '" + path + "'");
+    assertThatThrownBy(() -> properties.doubleValue(path))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Expected property value of java.lang.Double type, but actual is " +
+            "java.lang.Long. Path '" + path + "'");
+  }
+
+  @Test
+  public void test_whenBooleanValue() {
+    // Given
+    String path = "key";
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of(path, true));
+
+    // Then
+    assertThat(properties.booleanValue(path)).isTrue();
+    assertThat(properties.value(path)).isEqualTo(true);
+
+    assertThatThrownBy(() -> properties.longValue(path))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Expected property value of java.lang.Long type, but actual is " +
+            "java.lang.Boolean. Path '" + path + "'");
+  }
+
+  @Test
+  public void test_whenLongList() {
+    // Given
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of(
+        "key1", List.of(12345678901L, 2L),
+        "key2", List.of(1, 2),
+        "key3", new long[] { 3, 4 }
+    ));
+
+    // Then
+    assertThat(properties.longList("key1").toArray()).containsExactly(12345678901L, 2L);
+    assertThat(properties.longList("key2").toArray()).containsExactly(1L, 2L);
+    assertThat(properties.longList("key3").longElement(1)).isEqualTo(4L);
+    assertThat(properties.value("key1")).isInstanceOf(AbstractLongArrayList.class);
+    assertThat(properties.value("key3")).isInstanceOf(AbstractLongArrayList.class);
+
+    assertThatThrownBy(() -> properties.integerList("key3"))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Expected property list of java.lang.Integer values, but actual is " +
+            "list contained java.lang.Long values. Path 'key3'");
+  }
+
+  @Test
+  public void test_whenListContainsIntegerAndLongValues() {
+    // Given
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of(
+        "key1", List.of(1, 5000000000L),
+        "key2", List.of(5000000000L, 1)
+    ));
+
+    // Then
+    assertThat(properties.value("key1")).isInstanceOfSatisfying(AbstractLongArrayList.class,
+        l -> assertThat(l.toArray()).containsExactly(1L, 5000000000L));
+    assertThat(properties.value("key2")).isInstanceOfSatisfying(AbstractLongArrayList.class,
+        l -> assertThat(l.toArray()).containsExactly(5000000000L, 1L));
+  }
+
+  @Test
+  public void test_whenBooleanList() {
+    // Given
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of(
+        "key1", List.of(true, false, true),
+        "key2", new boolean[] { false, true }
+    ));
+
+    // Then
+    assertThat(properties.booleanList("key1").nativeList()).containsExactly(true, false, true);
+    assertThat(properties.booleanList("key2").booleanElement(1)).isTrue();
+    assertThat(properties.value("key1")).isInstanceOf(AbstractBooleanBitSetList.class);
+
+    assertThatThrownBy(() -> properties.longList("key1"))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Expected property list of java.lang.Long values, but actual is " +
+            "list contained java.lang.Boolean values. Path 'key1'");
+  }
+
+  @Test
+  public void test_whenPropertiesList_andLazyElements() {
+    // Given
+    String path = "root";
+    List<Map<String, Object>> list = List.of(Map.of("key", 1), Map.of("key", 2), Map.of("key", 3));
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of(path, list));
+
+    // When
+    ListHandle<PropertiesHandle> handle = properties.propertiesList(path);
+
+    // Then
+    assertThat(handle.size()).isEqualTo(3);
+    assertThat(handle.element(1)).isSameAs(handle.element(1));
+    assertThat(handle.element(1).integerValue("key")).isEqualTo(2);
+    assertThat(handle.nativeList()).extracting(p -> p.integerValue("key")).containsExactly(1, 2, 3);
+    assertThat(handle.nativeList().stream().mapToInt(p -> p.integerValue("key")).sum()).isEqualTo(6);
+  }
+
   @Test
   public void test_whenLongPath_andIntegerValue() {
     // Given
@@ -440,4 +555,72 @@ public class MapBasedPropertiesTest {
     // Then
     assertThat(properties.integerValue("key1.key2.key3")).isEqualTo(123);
   }
+
+  @Test
+  public void test_query() {
+    // Given
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of(
+        "services", Map.of(
+            "service1", Map.of("port", 8081, "host", "a"),
+            "service2", Map.of("port", 8082),
+            "service3", Map.of("nested", Map.of("port", 8083))
+        ),
+        "routes", Map.of(
+            "timeout", 10,
+            "route1", Map.of("timeout", 20, "nested", Map.of("timeout", 30))
+        )
+    ));
+
+    // Then
+    assertThat(properties.query("services.*.port"))
+        .containsExactly(Map.entry("services.service1.port", 8081), Map.entry("services.service2.port", 8082));
+    assertThat(properties.query("services.**.port")).containsOnlyKeys(
+        "services.service1.port", "services.service2.port", "services.service3.nested.port");
+    assertThat(properties.query("routes.**.timeout")).containsExactly(
+        Map.entry("routes.route1.nested.timeout", 30),
+        Map.entry("routes.route1.timeout", 20),
+        Map.entry("routes.timeout", 10));
+    assertThat(properties.query("*.service1.*")).containsOnlyKeys("services.service1.host", "services.service1.port");
+    assertThat(properties.query("services.service1.port")).containsExactly(Map.entry("services.service1.port", 8081));
+    assertThat(properties.query("services.*.unknown")).isEmpty();
+    assertThat(properties.query("routes.route1.**")).containsOnlyKeys(
+        "routes.route1", "routes.route1.timeout", "routes.route1.nested", "routes.route1.nested.timeout");
+    assertThat(properties.query("**.nested.*")).containsOnlyKeys(
+        "services.service3.nested.port", "routes.route1.nested.timeout");
+    assertThat(properties.query("**.**.port")).containsOnlyKeys(
+        "services.service1.port", "services.service2.port", "services.service3.nested.port");
+    assertThat(properties.query("services.*").get("services.service2"))
+        .isInstanceOfSatisfying(PropertiesHandle.class, p -> assertThat(p.integerValue("port")).isEqualTo(8082));
+  }
+
+  @Test
+  public void test_query_whenEmptyList() {
+    // Given
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of(
+        "key1", Map.of("key2", List.of(), "key3", 1)
+    ));
+
+    // When
+    Map<String, Object> values = properties.query("**");
+
+    // Then
+    assertThat(values).containsOnlyKeys("key1", "key1.key2", "key1.key3");
+    assertThat(values.get("key1.key2")).isInstanceOfSatisfying(ListHandle.class,
+        l -> assertThat(l.nativeList()).isEmpty());
+    assertThat(properties.value("key1.key2")).isInstanceOf(ListHandle.class);
+  }
+
+  @Test
+  public void test_paths() {
+    // Given
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of(
+        "key1", Map.of("key2", 1, "key3", Map.of("key4", 2)),
+        "key10", 3
+    ));
+
+    // Then
+    assertThat(properties.paths("key1")).containsExactly("key1.key2", "key1.key3", "key1.key3.key4");
+    assertThat(properties.paths("")).containsExactly("key1", "key1.key2", "key1.key3", "key1.key3.key4", "key10");
+    assertThat(properties.paths("unknown")).isEmpty();
+  }
 }
@@ -0,0 +1,82 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.properties.PropertiesToDataMapper;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.ixora.structures.properties.sample.EndpointHandle;
+import tech.intellispaces.ixora.structures.properties.sample.ServiceHandle;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MemoizingPropertiesToDataMapper} class.
+ */
+public class MemoizingPropertiesToDataMapperTest extends CommonPropertiesToDataMapperTest {
+
+  @Override
+  public PropertiesToDataMapper guide() {
+    return new MemoizingPropertiesToDataMapper(100);
+  }
+
+  @Test
+  public void testPropertiesToData_whenEqualTree() {
+    // Given
+    var mapper = new MemoizingPropertiesToDataMapper(100);
+    ServiceHandle service1 = mapper.propertiesToData(service(8080), ServiceHandle.class);
+    long hitCount = mapper.hitCount();
+
+    // When
+    ServiceHandle service2 = mapper.propertiesToData(service(8080), ServiceHandle.class);
+
+    // Then
+    assertThat(service2).isSameAs(service1);
+    assertThat(mapper.hitCount()).isEqualTo(hitCount + 1);
+  }
+
+  @Test
+  public void testPropertiesToData_whenNestedSubtreeChanged() {
+    // Given
+    var mapper = new MemoizingPropertiesToDataMapper(100);
+    ServiceHandle service1 = mapper.propertiesToData(service(8080), ServiceHandle.class);
+
+    // When
+    ServiceHandle service2 = mapper.propertiesToData(service(8081), ServiceHandle.class);
+
+    // Then
+    assertThat(service2).isNotSameAs(service1);
+    assertThat(service2.endpoint()).isNotSameAs(service1.endpoint());
+    assertThat(service2.endpoint().port()).isEqualTo(8081);
+    assertThat(service2.backup()).isSameAs(service1.backup());
+  }
+
+  @Test
+  public void testPropertiesToData_whenCacheIsFull() {
+    // Given
+    var mapper = new MemoizingPropertiesToDataMapper(2);
+    EndpointHandle endpoint1 = mapper.propertiesToData(endpoint(1), EndpointHandle.class);
+    EndpointHandle endpoint2 = mapper.propertiesToData(endpoint(2), EndpointHandle.class);
+    mapper.propertiesToData(endpoint(1), EndpointHandle.class);
+
+    // When
+    EndpointHandle endpoint3 = mapper.propertiesToData(endpoint(3), EndpointHandle.class);
+
+    // Then
+    assertThat(mapper.propertiesToData(endpoint(1), EndpointHandle.class)).isSameAs(endpoint1);
+    assertThat(mapper.propertiesToData(endpoint(3), EndpointHandle.class)).isSameAs(endpoint3);
+    assertThat(mapper.propertiesToData(endpoint(2), EndpointHandle.class)).isNotSameAs(endpoint2);
+  }
+
+  private static MapBasedProperties service(int port) {
+    return new MapBasedProperties(Map.of(
+        "name", "service1",
+        "replicas", 2,
+        "endpoint", Map.of("host", "host1", "port", port),
+        "backup", Map.of("host", "host2", "port", 9090)
+    ));
+  }
+
+  private static MapBasedProperties endpoint(int port) {
+    return new MapBasedProperties(Map.of("host", "host" + port, "port", port));
+  }
+}
@@ -0,0 +1,96 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.core.IntellispacesFramework;
+import tech.intellispaces.core.system.Modules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link PropertiesCanonicalizer} class.
+ */
+public class PropertiesCanonicalizerTest {
+
+  @BeforeEach
+  public void init() {
+    IntellispacesFramework.loadModule();
+  }
+
+  @AfterEach
+  public void destroy() {
+    Modules.current().stop();
+  }
+
+  @Test
+  public void testCanonicalize() {
+    // Given
+    var canonicalizer = new PropertiesCanonicalizer(1000, 1000);
+    Map<String, Object> map1 = Map.of("key1", new String("abc"), "key2", Map.of("key3", List.of(1, 2)));
+    Map<String, Object> map2 = Map.of("key1", new String("abc"), "key2", Map.of("key3", List.of(1, 2)));
+
+    // When
+    Map<String, Object> canonicalMap1 = canonicalizer.canonicalizeMap(map1);
+    Map<String, Object> canonicalMap2 = canonicalizer.canonicalizeMap(map2);
+
+    // Then
+    assertThat(canonicalMap1).isEqualTo(map1);
+    assertThat(canonicalMap2).isSameAs(canonicalMap1);
+    assertThat(canonicalizer.deduplicatedStrings()).isEqualTo(1);
+    assertThat(canonicalizer.sharedSubtrees()).isEqualTo(3);
+    assertThat(canonicalizer.estimatedBytesSaved()).isPositive();
+    assertThatThrownBy(() -> canonicalMap1.put("key4", 1))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void testCanonicalize_whenTablesAreFull() {
+    // Given
+    var canonicalizer = new PropertiesCanonicalizer(0, 0);
+    Map<String, Object> map = Map.of("key1", "abc");
+
+    // When
+    Map<String, Object> canonicalMap1 = canonicalizer.canonicalizeMap(map);
+    Map<String, Object> canonicalMap2 = canonicalizer.canonicalizeMap(map);
+
+    // Then
+    assertThat(canonicalMap2).isEqualTo(canonicalMap1).isNotSameAs(canonicalMap1);
+    assertThat(canonicalizer.sharedSubtrees()).isZero();
+    assertThat(canonicalizer.estimatedBytesSaved()).isZero();
+  }
+
+  @Test
+  public void testCanonicalize_whenMultiTenantCorpus() {
+    // Given
+    int numTenants = 1000;
+    var canonicalizer = new PropertiesCanonicalizer(100_000, 100_000);
+    List<Map<String, Object>> trees = new ArrayList<>();
+    for (int i = 0; i < numTenants; i++) {
+      trees.add(JsonPropertiesFunctions.parse("""
+          {
+            "tenant": "tenant%d",
+            "database": {"host": "db.local", "port": 5432, "pool": {"min": 1, "max": 10}},
+            "features": ["search", "export"],
+            "limits": {"rps": %d}
+          }
+          """.formatted(i, i % 10)).nativeMap());
+    }
+
+    // When
+    List<Map<String, Object>> canonicalTrees = trees.stream().map(canonicalizer::canonicalizeMap).toList();
+
+    // Then
+    assertThat(canonicalTrees).isEqualTo(trees);
+    assertThat(canonicalTrees.get(numTenants - 1).get("database")).isSameAs(canonicalTrees.get(0).get("database"));
+    assertThat(canonicalTrees.get(numTenants - 1).get("limits")).isSameAs(canonicalTrees.get(9).get("limits"));
+    assertThat(canonicalTrees.get(numTenants - 1).get("limits")).isNotSameAs(canonicalTrees.get(0).get("limits"));
+    assertThat(canonicalizer.sharedSubtrees()).isEqualTo(4L * (numTenants - 1) - 9);
+    assertThat(canonicalizer.estimatedBytesSaved()).isGreaterThan(1000L * numTenants);
+  }
+}
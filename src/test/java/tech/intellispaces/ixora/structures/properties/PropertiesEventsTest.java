@@ -0,0 +1,86 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import intellispaces.ixora.structures.exception.InvalidPropertyException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.core.IntellispacesFramework;
+import tech.intellispaces.core.system.Modules;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for JFR events of properties.
+ */
+public class PropertiesEventsTest {
+
+  @BeforeEach
+  public void init() {
+    IntellispacesFramework.loadModule();
+  }
+
+  @AfterEach
+  public void destroy() {
+    Modules.current().stop();
+  }
+
+  @Test
+  public void testEvents() throws Exception {
+    // Given
+    AbstractMapBasedProperties properties = new MapBasedProperties(Map.of("key1", List.of(1, 2, 3), "key2", "abc"));
+    List<RecordedEvent> events;
+
+    // When
+    try (var recording = new Recording()) {
+      recording.enable(PropertyLookupEvent.class).withThreshold(Duration.ZERO);
+      recording.enable(PropertyLookupFailureEvent.class);
+      recording.enable(PropertiesListConversionEvent.class).withThreshold(Duration.ZERO);
+      recording.start();
+
+      properties.integerList("key1");
+      assertThatThrownBy(() -> properties.integerValue("key2"))
+          .isExactlyInstanceOf(InvalidPropertyException.class);
+
+      recording.stop();
+      Path file = Files.createTempFile("properties", ".jfr");
+      try {
+        recording.dump(file);
+        events = RecordingFile.readAllEvents(file);
+      } finally {
+        Files.delete(file);
+      }
+    }
+
+    // Then
+    assertThat(events)
+        .filteredOn(e -> e.getEventType().getName().equals("intellispaces.ixora.PropertyLookup"))
+        .extracting(e -> e.getString("path"))
+        .containsExactly("key1", "key2");
+    assertThat(events)
+        .filteredOn(e -> e.getEventType().getName().equals("intellispaces.ixora.PropertiesListConversion"))
+        .singleElement()
+        .satisfies(e -> {
+          assertThat(e.getString("path")).isEqualTo("key1");
+          assertThat(e.getClass("elementType").getName()).isEqualTo(Integer.class.getName());
+          assertThat(e.getInt("elementCount")).isEqualTo(3);
+        });
+    assertThat(events)
+        .filteredOn(e -> e.getEventType().getName().equals("intellispaces.ixora.PropertyLookupFailure"))
+        .singleElement()
+        .satisfies(e -> {
+          assertThat(e.getString("path")).isEqualTo("key2");
+          assertThat(e.getString("message")).isEqualTo("Expected property value of java.lang.Integer type, " +
+              "but actual is java.lang.String. Path 'key2'");
+        });
+  }
+}
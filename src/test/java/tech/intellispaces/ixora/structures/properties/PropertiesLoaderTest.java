@@ -0,0 +1,99 @@
+package tech.intellispaces.ixora.structures.properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.commons.exception.UnexpectedViolationException;
+import tech.intellispaces.core.IntellispacesFramework;
+import tech.intellispaces.core.system.Modules;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link PropertiesLoader} class.
+ */
+public class PropertiesLoaderTest {
+
+  @BeforeEach
+  public void init() {
+    IntellispacesFramework.loadModule();
+  }
+
+  @AfterEach
+  public void destroy() {
+    Modules.current().stop();
+  }
+
+  @Test
+  public void testLoad_whenSeveralSources() {
+    // Given
+    var source1 = PropertiesSource.of("source1", () -> Map.of("key1", 1, "root", Map.of("key2", 2, "key3", 3)));
+    var source2 = PropertiesSource.of("source2", () -> Map.of("key4", "abc", "root", Map.of("key3", 33)));
+
+    // When
+    PropertiesLoadingResult result = new PropertiesLoader().load(List.of(source1, source2));
+
+    // Then
+    assertThat(result.properties().integerValue("key1")).isEqualTo(1);
+    assertThat(result.properties().stringValue("key4")).isEqualTo("abc");
+    assertThat(result.properties().integerValue("root.key2")).isEqualTo(2);
+    assertThat(result.properties().integerValue("root.key3")).isEqualTo(33);
+    assertThat(result.sourceDurations()).containsOnlyKeys("source1", "source2");
+  }
+
+  @Test
+  public void testLoad_whenSourcesAreLoadedConcurrently() {
+    // Given
+    var latch = new CountDownLatch(2);
+    var source1 = PropertiesSource.of("source1", () -> {
+      latch.countDown();
+      return Map.of("key1", latch.await(10, TimeUnit.SECONDS));
+    });
+    var source2 = PropertiesSource.of("source2", () -> {
+      latch.countDown();
+      return Map.of("key2", latch.await(10, TimeUnit.SECONDS));
+    });
+
+    // When
+    PropertiesLoadingResult result = new PropertiesLoader().load(List.of(source1, source2));
+
+    // Then
+    assertThat(result.properties().value("key1")).isEqualTo(true);
+    assertThat(result.properties().value("key2")).isEqualTo(true);
+    assertThat(result.totalDuration()).isGreaterThanOrEqualTo(result.sourceDurations().get("source1"));
+    assertThat(result.totalDuration()).isGreaterThanOrEqualTo(result.sourceDurations().get("source2"));
+  }
+
+  @Test
+  public void testLoad_whenSourceFailed() {
+    // Given
+    var source1 = PropertiesSource.of("source1", () -> Map.of("key1", 1));
+    var source2 = PropertiesSource.of("source2", () -> {
+      throw new IOException("Connection refused");
+    });
+
+    // Then
+    assertThatThrownBy(() -> new PropertiesLoader().load(List.of(source1, source2)))
+        .isInstanceOf(UnexpectedViolationException.class)
+        .hasCauseExactlyInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void testLoad_whenSourceNamesAreRepeated() {
+    // Given
+    var source1 = PropertiesSource.of("source1", () -> Map.of("key1", 1));
+    var source2 = PropertiesSource.of("source1", () -> Map.of("key2", 2));
+
+    // Then
+    assertThatThrownBy(() -> new PropertiesLoader().load(List.of(source1, source2)))
+        .isExactlyInstanceOf(UnexpectedViolationException.class)
+        .hasMessage("Properties source name 'source1' is not unique");
+  }
+}
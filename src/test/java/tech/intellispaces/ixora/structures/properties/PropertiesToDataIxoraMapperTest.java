@@ -1,15 +1,53 @@
 package tech.intellispaces.ixora.structures.properties;
 
+import intellispaces.ixora.structures.exception.InvalidPropertyException;
 import intellispaces.ixora.structures.properties.PropertiesToDataMapper;
-import tech.intellispaces.ixora.test.structures.properties.PropertiesToDataMapperTest;
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.ixora.structures.properties.sample.ServiceHandle;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for {@link PropertiesToDataIxoraMapper} class.
  */
-public class PropertiesToDataIxoraMapperTest extends PropertiesToDataMapperTest {
+public class PropertiesToDataIxoraMapperTest extends CommonPropertiesToDataMapperTest {
 
   @Override
   public PropertiesToDataMapper guide() {
     return new PropertiesToDataIxoraMapper();
   }
+
+  @Test
+  public void testPropertiesToData_whenSeveralMismatches() {
+    // Given
+    var properties = new MapBasedProperties(Map.of(
+        "name", 1,
+        "replicas", "three",
+        "endpoint", Map.of("host", "localhost", "port", "http")
+    ));
+
+    // Then
+    assertThatThrownBy(() -> guide().propertiesToData(properties, ServiceHandle.class))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Properties can't be mapped to data class " + ServiceHandle.class.getCanonicalName() + ". " +
+            "Expected property value of java.lang.String type, but actual is java.lang.Integer. Path 'name'; " +
+            "Expected property value of int type, but actual is java.lang.String. Path 'replicas'; " +
+            "Expected property value of int type, but actual is java.lang.String. Path 'endpoint.port'");
+  }
+
+  @Test
+  public void testPropertiesToData_whenSingleMismatch() {
+    // Given
+    var properties = new MapBasedProperties(Map.of(
+        "name", "service1",
+        "endpoint", Map.of("host", "localhost", "port", "http")
+    ));
+
+    // Then
+    assertThatThrownBy(() -> guide().propertiesToData(properties, ServiceHandle.class))
+        .isExactlyInstanceOf(InvalidPropertyException.class)
+        .hasMessage("Expected property value of int type, but actual is java.lang.String. Path 'endpoint.port'");
+  }
 }
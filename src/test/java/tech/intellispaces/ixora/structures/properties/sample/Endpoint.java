@@ -0,0 +1,16 @@
+package tech.intellispaces.ixora.structures.properties.sample;
+
+import tech.intellispaces.core.annotation.Data;
+import tech.intellispaces.core.annotation.Domain;
+
+/**
+ * Sample data domain of the network endpoint.
+ */
+@Data
+@Domain
+public interface Endpoint {
+
+  String host();
+
+  int port();
+}
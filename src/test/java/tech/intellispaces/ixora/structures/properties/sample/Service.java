@@ -0,0 +1,20 @@
+package tech.intellispaces.ixora.structures.properties.sample;
+
+import tech.intellispaces.core.annotation.Data;
+import tech.intellispaces.core.annotation.Domain;
+
+/**
+ * Sample data domain with nested data objects.
+ */
+@Data
+@Domain
+public interface Service {
+
+  String name();
+
+  int replicas();
+
+  Endpoint endpoint();
+
+  Endpoint backup();
+}